@@ -1,11 +1,17 @@
 package co.instil.interview.pokerface;
 
+import co.instil.interview.pokerface.core.shard.ShardWorker;
+import java.util.Arrays;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
 @SpringBootApplication
 public class PokerfaceApplication {
   public static void main(final  String... args) {
+    if (args.length > 0 && ShardWorker.COMMAND.equals(args[0])) {
+      // Workers started by the shard coordinator skip the shell altogether
+      System.exit(ShardWorker.run(Arrays.copyOfRange(args, 1, args.length)));
+    }
     SpringApplication.run(PokerfaceApplication.class, args);
   }
 }
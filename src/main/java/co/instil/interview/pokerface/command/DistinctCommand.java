@@ -0,0 +1,80 @@
+package co.instil.interview.pokerface.command;
+
+import co.instil.interview.pokerface.core.DistinctHandCounter;
+import co.instil.interview.pokerface.core.DistinctHands;
+import co.instil.interview.pokerface.domain.Hand;
+import java.io.BufferedOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+
+@RequiredArgsConstructor
+@ShellComponent
+public class DistinctCommand {
+    @NonNull
+    private final DistinctHandCounter distinctHandCounter;
+
+    @ShellMethod("Counts the distinct hands of a file, whatever the order of their cards, and \n"
+      + "optionally prints the most frequent ones. The distinct hands can also be written to \n"
+      + "another file, once each")
+    public String distinct(
+      @ShellOption(
+        help = "The path to the target file. It can be either absolute or relative"
+      )
+      final String filepath,
+      @ShellOption(
+        help = "The number of most frequent hands to print. Counting frequencies takes about \n"
+          + "10 MB per thread rather than 320 KB, so none are counted by default",
+        defaultValue = "0"
+      )
+      final int top,
+      @ShellOption(
+        help = "The path to write every distinct hand to, along with its frequency when the \n"
+          + "most frequent hands are printed too",
+        defaultValue = ShellOption.NULL
+      )
+      final String output,
+      @ShellOption(
+        help = "The number of threads counting hands. Defaults to the number of available cores",
+        defaultValue = "0"
+      )
+      final int threads
+    ) throws Exception {
+        final boolean countingFrequencies = top > 0;
+        final DistinctHands distinctHands = distinctHandCounter.count(
+          Paths.get(filepath),
+          threads > 0 ? threads : Runtime.getRuntime().availableProcessors(),
+          countingFrequencies
+        );
+        if (output != null) {
+            try (final PrintStream out = new PrintStream(
+              new BufferedOutputStream(Files.newOutputStream(Paths.get(output))),
+              false,
+              Charset.defaultCharset()
+            )) {
+                distinctHandCounter.writeDistinctHands(distinctHands, out, countingFrequencies);
+            }
+        }
+
+        final StringBuilder summary = new StringBuilder(String.format(
+          "Hands: %d, distinct hands: %d, invalid lines: %d",
+          distinctHands.getHands(), distinctHands.getDistinctHands(),
+          distinctHands.getInvalidLines()
+        ));
+        if (countingFrequencies) {
+            for (final int index : distinctHands.mostFrequent(top)) {
+                summary.append(System.lineSeparator())
+                  .append(Hand.ofIndex(index))
+                  .append(" => ")
+                  .append(distinctHands.getFrequency(index));
+            }
+        }
+        return summary.toString();
+    }
+}
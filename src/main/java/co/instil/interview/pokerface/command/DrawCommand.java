@@ -0,0 +1,61 @@
+package co.instil.interview.pokerface.command;
+
+import co.instil.interview.pokerface.core.DrawAnalyzer;
+import co.instil.interview.pokerface.core.DrawOutcome;
+import co.instil.interview.pokerface.domain.Card;
+import co.instil.interview.pokerface.domain.Hand;
+import java.util.Arrays;
+import java.util.List;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+
+@RequiredArgsConstructor
+@ShellComponent
+public class DrawCommand {
+    @NonNull
+    private final DrawAnalyzer drawAnalyzer;
+
+    @ShellMethod("Prints the probability of each hand name when drawing cards from the rest of \n"
+      + "the deck. Given fewer than 5 cards, the hand is completed from the deck. Given a \n"
+      + "5 card hand, the cards to discard are drawn again, or if none are specified, the \n"
+      + "discard giving the best expected hand is found")
+    public String draw(
+      @ShellOption(
+        help = "The cards held, e.g. 'AH KH QH JH' or 'AH AD 7C 5S 2D'"
+      )
+      final String cards,
+      @ShellOption(
+        help = "The cards to discard out of a 5 card hand, e.g. '7C 5S 2D'",
+        defaultValue = ShellOption.NULL
+      )
+      final String discard
+    ) {
+        final Card[] heldCards = Card.parseCards(cards);
+        if (heldCards.length < 5) {
+            if (discard != null) {
+                throw new IllegalArgumentException(
+                  "Cards can only be discarded out of a 5 card hand"
+                );
+            }
+            return drawAnalyzer.analyze(heldCards).toString();
+        }
+        final Hand hand = Hand.parse(cards);
+        if (discard == null) {
+            return "Best discard: " + drawAnalyzer.findBestDiscard(hand);
+        }
+        final List<Card> discardedCards = Arrays.asList(Card.parseCards(discard));
+        if (!Arrays.asList(hand.getCards()).containsAll(discardedCards)) {
+            throw new IllegalArgumentException("Only cards held can be discarded");
+        }
+        final DrawOutcome outcome = drawAnalyzer.analyze(
+          Arrays.stream(hand.getCards())
+            .filter(card -> !discardedCards.contains(card))
+            .toArray(Card[]::new),
+          discardedCards.toArray(new Card[0])
+        );
+        return outcome.toString();
+    }
+}
@@ -1,6 +1,8 @@
 package co.instil.interview.pokerface.command;
 
 import co.instil.interview.pokerface.core.HandFileProcessor;
+import co.instil.interview.pokerface.core.HandNameFilter;
+import co.instil.interview.pokerface.core.ProcessingOptions;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import lombok.NonNull;
@@ -23,9 +25,46 @@ public class FromFileCommand {
       @ShellOption(
         help = "The path to the target file. It can be either absolute or relative"
       )
-      final String filepath
+      final String filepath,
+      @ShellOption(
+        help = "Only print hands named after this hand name or a better one, e.g. FULL_HOUSE",
+        defaultValue = ShellOption.NULL
+      )
+      final String minCategory,
+      @ShellOption(
+        help = "Only print hands named after one of these comma separated hand names, \n"
+          + "e.g. FLUSH,STRAIGHT",
+        defaultValue = ShellOption.NULL
+      )
+      final String only,
+      @ShellOption(
+        help = "Print the lines processed, throughput and queue depth of each processing stage \n"
+          + "once done"
+      )
+      final boolean stats,
+      @ShellOption(
+        help = "Print, for each hand name, the hands named, the predicates run per hand and the \n"
+          + "time spent naming them once done"
+      )
+      final boolean profile,
+      @ShellOption(
+        help = "Check for the hand names most frequent in the file so far first, rather than \n"
+          + "from the best hand name to the worst"
+      )
+      final boolean adaptiveOrder,
+      @ShellOption(
+        help = "Name hands by looking them up in precomputed tables rather than checking them \n"
+          + "against each hand name. It cannot be combined with --profile nor --adaptive-order"
+      )
+      final boolean tables
     ) throws Exception {
         final Path sampleFilePath = Paths.get(filepath);
-        handFileProcessor.processFile(sampleFilePath);
+        handFileProcessor.processFile(sampleFilePath, ProcessingOptions.builder()
+          .filter(HandNameFilter.of(minCategory, only))
+          .printStatistics(stats)
+          .printProfile(profile)
+          .adaptiveOrdering(adaptiveOrder)
+          .evaluationTables(tables)
+          .build());
     }
 }
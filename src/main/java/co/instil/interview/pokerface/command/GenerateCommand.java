@@ -0,0 +1,72 @@
+package co.instil.interview.pokerface.command;
+
+import co.instil.interview.pokerface.core.GenerationOptions;
+import co.instil.interview.pokerface.core.HandFileGenerator;
+import java.nio.file.Paths;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+
+@RequiredArgsConstructor
+@ShellComponent
+public class GenerateCommand {
+    @NonNull
+    private final HandFileGenerator handFileGenerator;
+
+    @ShellMethod("Writes a file of random hands, one per line, to load test the other commands \n"
+      + "with. The same seed always generates the same file")
+    public String generate(
+      @ShellOption(
+        help = "The path to the file to write. It can be either absolute or relative"
+      )
+      final String filepath,
+      @ShellOption(
+        help = "The number of lines to write",
+        defaultValue = "1000000"
+      )
+      final long lines,
+      @ShellOption(
+        help = "The relative weight of each hand name, e.g. HIGH_CARD=50,ONE_PAIR=40,FLUSH=10. \n"
+          + "Hand names left out are never generated. Defaults to the odds of a real deal",
+        defaultValue = ShellOption.NULL
+      )
+      final String weights,
+      @ShellOption(
+        help = "The share of lines, between 0 and 1, that are not valid hands",
+        defaultValue = "0"
+      )
+      final double malformed,
+      @ShellOption(
+        help = "The seed of the random hands. Defaults to a random seed, printed once done",
+        defaultValue = ShellOption.NULL
+      )
+      final Long seed,
+      @ShellOption(
+        help = "The number of threads generating hands. Defaults to the number of available cores",
+        defaultValue = "0"
+      )
+      final int threads
+    ) throws Exception {
+        final GenerationOptions.GenerationOptionsBuilder options = GenerationOptions.builder()
+          .lines(lines)
+          .categoryWeights(GenerationOptions.parseCategoryWeights(weights))
+          .malformedFraction(malformed)
+          .seed(seed != null ? seed : ThreadLocalRandom.current().nextLong());
+        if (threads > 0) {
+            options.parallelism(threads);
+        }
+        final GenerationOptions generationOptions = options.build();
+
+        final long startNanos = System.nanoTime();
+        final long bytes = handFileGenerator.generate(Paths.get(filepath), generationOptions);
+        return String.format(
+          "Generated %d lines (%d bytes) in %d ms with seed %d",
+          lines, bytes, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+          generationOptions.getSeed()
+        );
+    }
+}
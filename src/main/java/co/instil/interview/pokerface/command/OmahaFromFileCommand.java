@@ -0,0 +1,31 @@
+package co.instil.interview.pokerface.command;
+
+import co.instil.interview.pokerface.core.HandFileProcessor;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+
+@RequiredArgsConstructor
+@ShellComponent
+public class OmahaFromFileCommand {
+    @NonNull
+    private final HandFileProcessor handFileProcessor;
+
+    @ShellMethod("Acts like the 'from-file' command but for Omaha hands. Each line is \n"
+      + "expected to hold 4 hole cards and 5 board cards separated by a '|', e.g. \n"
+      + "'AH KH 7D 2C | QH JH TH 3S 3D'. The name printed is the best one made out of \n"
+      + "exactly 2 hole cards and 3 board cards")
+    public void omahaFromFile(
+      @ShellOption(
+        help = "The path to the target file. It can be either absolute or relative"
+      )
+      final String filepath
+    ) throws Exception {
+        final Path omahaFilePath = Paths.get(filepath);
+        handFileProcessor.processOmahaFile(omahaFilePath);
+    }
+}
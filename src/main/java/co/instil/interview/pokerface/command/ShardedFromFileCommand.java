@@ -0,0 +1,44 @@
+package co.instil.interview.pokerface.command;
+
+import co.instil.interview.pokerface.core.shard.ShardCoordinator;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+
+@RequiredArgsConstructor
+@ShellComponent
+public class ShardedFromFileCommand {
+    @NonNull
+    private final ShardCoordinator shardCoordinator;
+
+    @ShellMethod("Acts exactly as the 'from-file' command but splits the file into line aligned \n"
+      + "ranges, processed by as many worker processes. The output of the workers is merged \n"
+      + "in order, and workers that fail are retried")
+    public void shardedFromFile(
+      @ShellOption(
+        help = "The path to the target file. It can be either absolute or relative"
+      )
+      final String filepath,
+      @ShellOption(
+        help = "The number of worker processes. Defaults to the number of available cores",
+        defaultValue = "0"
+      )
+      final int workers,
+      @ShellOption(
+        help = "The number of times a worker is started for the same range before giving up",
+        defaultValue = "3"
+      )
+      final int maxAttempts
+    ) throws Exception {
+        final Path shardedFilePath = Paths.get(filepath);
+        shardCoordinator.processFile(
+          shardedFilePath,
+          workers > 0 ? workers : Runtime.getRuntime().availableProcessors(),
+          maxAttempts
+        );
+    }
+}
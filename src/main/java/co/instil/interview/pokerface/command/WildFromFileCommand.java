@@ -0,0 +1,30 @@
+package co.instil.interview.pokerface.command;
+
+import co.instil.interview.pokerface.core.HandFileProcessor;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+
+@RequiredArgsConstructor
+@ShellComponent
+public class WildFromFileCommand {
+    @NonNull
+    private final HandFileProcessor handFileProcessor;
+
+    @ShellMethod("Acts like the 'from-file' command but for hands that may hold up to 2 jokers, \n"
+      + "written 'JK', e.g. 'AH JK KH QH JK'. The name printed is the best one the jokers \n"
+      + "can make, each standing for any card not already in the hand")
+    public void wildFromFile(
+      @ShellOption(
+        help = "The path to the target file. It can be either absolute or relative"
+      )
+      final String filepath
+    ) throws Exception {
+        final Path wildFilePath = Paths.get(filepath);
+        handFileProcessor.processWildFile(wildFilePath);
+    }
+}
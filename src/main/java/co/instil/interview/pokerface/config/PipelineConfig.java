@@ -0,0 +1,15 @@
+package co.instil.interview.pokerface.config;
+
+import co.instil.interview.pokerface.core.pipeline.PipelineSettings;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PipelineConfig {
+    @Bean
+    @ConfigurationProperties(prefix = "pokerface.pipeline")
+    public PipelineSettings pipelineSettings() {
+        return new PipelineSettings();
+    }
+}
@@ -0,0 +1,145 @@
+package co.instil.interview.pokerface.core;
+
+import static co.instil.interview.pokerface.domain.Hand.HandName.FLUSH;
+import static co.instil.interview.pokerface.domain.Hand.HandName.STRAIGHT_FLUSH;
+import static java.util.stream.Collectors.joining;
+
+import co.instil.interview.pokerface.domain.Hand.HandName;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+
+/**
+ * What it costs the {@link HandNameDeterminer} to name the hands of each name: how many of its
+ * predicates ran and how long it took. It is updated concurrently by whoever determines names,
+ * so everything in here is lock free. Unless timed, only the hands named are counted, which is
+ * all the adaptive order needs.
+ * <p>
+ * When adaptive, the profile also decides the order the predicates run in, the most frequent
+ * names of the input so far first, so that the common hands are named after as few predicates as
+ * possible. The order is worked out again every {@value #REORDER_INTERVAL} hands
+ */
+public class DeterminationProfile {
+  static final int REORDER_INTERVAL = 1024;
+  private static final HandName[] NAMES_BY_RANK = Arrays.stream(HandName.values())
+    .sorted(Comparator.comparingInt(HandName::getRank).reversed())
+    .toArray(HandName[]::new);
+
+  @Getter
+  private final boolean adaptive;
+  @Getter
+  private final boolean timed;
+  private final LongAdder[] hands = adders();
+  private final LongAdder[] predicates = adders();
+  private final LongAdder[] nanos = adders();
+  private final AtomicLong handsProfiled = new AtomicLong();
+  private volatile List<HandName> predicateOrder = List.of(NAMES_BY_RANK);
+
+  public DeterminationProfile(final boolean adaptive, final boolean timed) {
+    this.adaptive = adaptive;
+    this.timed = timed;
+  }
+
+  /**
+   * @return the order to run the predicates in, from the first to the last. The names are ranked
+   *   from the best to the worst unless the profile is adaptive
+   */
+  public List<HandName> getPredicateOrder() {
+    return predicateOrder;
+  }
+
+  void record(final HandName handName, final int predicatesRun, final long elapsedNanos) {
+    hands[handName.ordinal()].increment();
+    if (timed) {
+      predicates[handName.ordinal()].add(predicatesRun);
+      nanos[handName.ordinal()].add(elapsedNanos);
+    }
+    if (adaptive && handsProfiled.incrementAndGet() % REORDER_INTERVAL == 0) {
+      predicateOrder = adaptedPredicateOrder();
+    }
+  }
+
+  public long getHands(final HandName handName) {
+    return hands[handName.ordinal()].sum();
+  }
+
+  public long getPredicates(final HandName handName) {
+    return predicates[handName.ordinal()].sum();
+  }
+
+  public long getNanos(final HandName handName) {
+    return nanos[handName.ordinal()].sum();
+  }
+
+  /**
+   * Orders the names from the most to the least frequent, ties broken by rank. The predicates are
+   * not all mutually exclusive though: a suited wheel (A 5 4 3 2) is both a flush and a straight
+   * flush, so the straight flush is always checked first
+   */
+  private List<HandName> adaptedPredicateOrder() {
+    final long[] frequencies = Arrays.stream(hands).mapToLong(LongAdder::sum).toArray();
+    final List<HandName> order = new ArrayList<>(List.of(NAMES_BY_RANK));
+    // Stable, so ties keep their rank order
+    order.sort(Comparator.comparingLong(handName -> -frequencies[handName.ordinal()]));
+    if (order.indexOf(STRAIGHT_FLUSH) > order.indexOf(FLUSH)) {
+      order.remove(STRAIGHT_FLUSH);
+      order.add(order.indexOf(FLUSH), STRAIGHT_FLUSH);
+    }
+    return List.copyOf(order);
+  }
+
+  @Override
+  public String toString() {
+    long totalHands = 0L;
+    long totalPredicates = 0L;
+    long totalNanos = 0L;
+    for (final HandName handName : HandName.values()) {
+      totalHands += getHands(handName);
+      totalPredicates += getPredicates(handName);
+      totalNanos += getNanos(handName);
+    }
+    final StringBuilder report = new StringBuilder(String.format(
+      "%-16s %11s %10s %9s %7s", "name", "hands", "predicates", "ns/hand", "time"
+    ));
+    for (final HandName handName : NAMES_BY_RANK) {
+      report.append(System.lineSeparator())
+        .append(row(handName.name(), getHands(handName), getPredicates(handName),
+          getNanos(handName), totalNanos));
+    }
+    report.append(System.lineSeparator())
+      .append(row("TOTAL", totalHands, totalPredicates, totalNanos, totalNanos));
+    if (adaptive) {
+      report.append(System.lineSeparator())
+        .append("Predicate order: ")
+        .append(predicateOrder.stream().map(Enum::name).collect(joining(",")));
+    }
+    return report.toString();
+  }
+
+  private static String row(
+    final String name,
+    final long hands,
+    final long predicates,
+    final long nanos,
+    final long totalNanos
+  ) {
+    return String.format(
+      "%-16s %11d %10.2f %9.0f %6.1f%%",
+      name,
+      hands,
+      hands == 0 ? 0.0 : (double) predicates / hands,
+      hands == 0 ? 0.0 : (double) nanos / hands,
+      totalNanos == 0 ? 0.0 : nanos * 100.0 / totalNanos
+    );
+  }
+
+  private static LongAdder[] adders() {
+    final LongAdder[] adders = new LongAdder[HandName.values().length];
+    Arrays.setAll(adders, i -> new LongAdder());
+    return adders;
+  }
+}
@@ -0,0 +1,109 @@
+package co.instil.interview.pokerface.core;
+
+import co.instil.interview.pokerface.core.pipeline.PipelineThreads;
+import co.instil.interview.pokerface.core.shard.ByteRangeInputStream;
+import co.instil.interview.pokerface.core.shard.Shard;
+import co.instil.interview.pokerface.core.shard.ShardPlanner;
+import co.instil.interview.pokerface.domain.Hand;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the distinct hands of a file. The file is split into line aligned ranges, each counted
+ * by its own thread into its own {@link DistinctHands}, which are merged once all are done. The
+ * memory used only depends on the number of threads, not on the size of the file
+ */
+@Component
+public class DistinctHandCounter {
+  public DistinctHands count(
+    @NonNull final Path path,
+    final int parallelism,
+    final boolean countingFrequencies
+  ) throws IOException, InterruptedException {
+    final List<Shard> shards = ShardPlanner.plan(path, parallelism);
+    final ExecutorService workers = Executors.newFixedThreadPool(
+      parallelism, PipelineThreads.factory("distinct")
+    );
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final List<CompletableFuture<DistinctHands>> counts = shards.stream()
+        .map(shard -> CompletableFuture.supplyAsync(
+          () -> count(channel, shard, countingFrequencies), workers
+        ))
+        .collect(Collectors.toList());
+      final DistinctHands distinctHands = new DistinctHands(countingFrequencies);
+      for (final CompletableFuture<DistinctHands> count : counts) {
+        distinctHands.merge(count.get());
+      }
+      return distinctHands;
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) e.getCause()).getCause();
+      }
+      throw new IllegalStateException(
+        "Failed to count the distinct hands of " + path, e.getCause()
+      );
+    } finally {
+      workers.shutdownNow();
+    }
+  }
+
+  /**
+   * Writes every distinct hand once, in {@link Hand#getIndex()} order, followed by the number of
+   * times it was seen when frequencies were counted
+   */
+  public void writeDistinctHands(
+    @NonNull final DistinctHands distinctHands,
+    @NonNull final PrintStream out,
+    final boolean withFrequencies
+  ) {
+    distinctHands.forEachIndex(index -> {
+      if (withFrequencies) {
+        out.println(Hand.ofIndex(index) + " => " + distinctHands.getFrequency(index));
+      } else {
+        out.println(Hand.ofIndex(index));
+      }
+    });
+  }
+
+  private static DistinctHands count(
+    final FileChannel channel,
+    final Shard shard,
+    final boolean countingFrequencies
+  ) {
+    final DistinctHands distinctHands = new DistinctHands(countingFrequencies);
+    try (final BufferedReader reader = new BufferedReader(new InputStreamReader(
+      new ByteRangeInputStream(channel, shard.getStart(), shard.getEnd()),
+      Charset.defaultCharset()
+    ))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        final Hand hand;
+        try {
+          hand = Hand.parse(line);
+        } catch (final IllegalArgumentException e) {
+          distinctHands.addInvalidLine();
+          continue;
+        }
+        distinctHands.add(hand);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return distinctHands;
+  }
+}
@@ -0,0 +1,183 @@
+package co.instil.interview.pokerface.core;
+
+import co.instil.interview.pokerface.domain.Hand;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The distinct hands seen, tracked by {@link Hand#getIndex()} in a bitset of
+ * {@value Hand#COMBINATIONS} bits, i.e. about 325 KB, however many hands are added. When
+ * frequencies are counted, an int per possible hand is kept as well, i.e. about 10 MB.
+ * <p>
+ * It is not thread safe. Parallel workers keep one each and {@link #merge} them once done
+ */
+public class DistinctHands {
+  private final long[] seen = new long[(Hand.COMBINATIONS + Long.SIZE - 1) / Long.SIZE];
+  private final int[] frequencies;
+  @Getter
+  private long hands;
+  @Getter
+  private long invalidLines;
+
+  /**
+   * @param countingFrequencies whether to count how many times each hand is added, on top of
+   *   whether it was
+   */
+  public DistinctHands(final boolean countingFrequencies) {
+    frequencies = countingFrequencies ? new int[Hand.COMBINATIONS] : null;
+  }
+
+  /**
+   * @return true if the hand had not been added before
+   */
+  public boolean add(@NonNull final Hand hand) {
+    return add(hand.getIndex());
+  }
+
+  /**
+   * @param index the {@link Hand#getIndex()} of the hand to add
+   * @return true if the hand had not been added before
+   */
+  public boolean add(final int index) {
+    if (index < 0 || index >= Hand.COMBINATIONS) {
+      throw new IllegalArgumentException("The index [" + index + "] is not a valid Hand index");
+    }
+    ++hands;
+    if (frequencies != null) {
+      ++frequencies[index];
+    }
+    final long bit = 1L << index;
+    final boolean added = (seen[index >>> 6] & bit) == 0;
+    seen[index >>> 6] |= bit;
+    return added;
+  }
+
+  public void addInvalidLine() {
+    ++invalidLines;
+  }
+
+  /**
+   * Adds everything the other hands have seen to these ones
+   */
+  public void merge(@NonNull final DistinctHands other) {
+    if ((frequencies == null) != (other.frequencies == null)) {
+      throw new IllegalArgumentException("Cannot merge hands counted with and without frequencies");
+    }
+    for (int i = 0; i < seen.length; i++) {
+      seen[i] |= other.seen[i];
+    }
+    if (frequencies != null) {
+      Arrays.setAll(frequencies, index -> frequencies[index] + other.frequencies[index]);
+    }
+    hands += other.hands;
+    invalidLines += other.invalidLines;
+  }
+
+  public boolean contains(final int index) {
+    return (seen[index >>> 6] & 1L << index) != 0;
+  }
+
+  public long getDistinctHands() {
+    long distinctHands = 0L;
+    for (final long word : seen) {
+      distinctHands += Long.bitCount(word);
+    }
+    return distinctHands;
+  }
+
+  /**
+   * @return the number of times the hand of the given index was added
+   */
+  public int getFrequency(final int index) {
+    if (frequencies == null) {
+      throw new IllegalStateException("Frequencies are not counted");
+    }
+    return frequencies[index];
+  }
+
+  /**
+   * Calls the consumer with the index of every distinct hand, in ascending order
+   */
+  public void forEachIndex(@NonNull final IntConsumer consumer) {
+    for (int word = 0; word < seen.length; word++) {
+      long bits = seen[word];
+      while (bits != 0) {
+        consumer.accept((word << 6) + Long.numberOfTrailingZeros(bits));
+        bits &= bits - 1;
+      }
+    }
+  }
+
+  /**
+   * @return the indexes of the most frequent hands, the most frequent first, ties in ascending
+   *   index order
+   */
+  public int[] mostFrequent(final int count) {
+    if (frequencies == null) {
+      throw new IllegalStateException("Frequencies are not counted");
+    }
+    // A small min heap of the best so far keeps this to a single pass
+    final int size = (int) Math.min(count, getDistinctHands());
+    final int[] heap = new int[size];
+    final int[] heapSize = new int[1];
+    forEachIndex(index -> {
+      if (heapSize[0] < size) {
+        heap[heapSize[0]++] = index;
+        siftUp(heap, heapSize[0] - 1);
+      } else if (size > 0 && isMoreFrequent(index, heap[0])) {
+        heap[0] = index;
+        siftDown(heap, 0, size);
+      }
+    });
+    final int[] mostFrequent = new int[size];
+    for (int i = size - 1; i >= 0; i--) {
+      mostFrequent[i] = heap[0];
+      heap[0] = heap[i];
+      siftDown(heap, 0, i);
+    }
+    return mostFrequent;
+  }
+
+  private boolean isMoreFrequent(final int index, final int otherIndex) {
+    final int frequency = frequencies[index];
+    final int otherFrequency = frequencies[otherIndex];
+    return frequency > otherFrequency || frequency == otherFrequency && index < otherIndex;
+  }
+
+  private void siftUp(final int[] heap, final int position) {
+    int child = position;
+    while (child > 0) {
+      final int parent = (child - 1) / 2;
+      if (!isMoreFrequent(heap[parent], heap[child])) {
+        return;
+      }
+      swap(heap, parent, child);
+      child = parent;
+    }
+  }
+
+  private void siftDown(final int[] heap, final int position, final int size) {
+    int parent = position;
+    while (true) {
+      int least = parent;
+      for (int child = 2 * parent + 1; child <= 2 * parent + 2 && child < size; child++) {
+        if (isMoreFrequent(heap[least], heap[child])) {
+          least = child;
+        }
+      }
+      if (least == parent) {
+        return;
+      }
+      swap(heap, parent, least);
+      parent = least;
+    }
+  }
+
+  private static void swap(final int[] heap, final int i, final int j) {
+    final int value = heap[i];
+    heap[i] = heap[j];
+    heap[j] = value;
+  }
+}
@@ -0,0 +1,182 @@
+package co.instil.interview.pokerface.core;
+
+import co.instil.interview.pokerface.domain.Card;
+import co.instil.interview.pokerface.domain.Hand;
+import co.instil.interview.pokerface.domain.Hand.HandName;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import lombok.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Works out the distribution of final hand names when drawing cards to complete a hand, by
+ * enumerating every completion out of the remaining deck and naming it with the
+ * {@link FastHandNameEvaluator}.
+ * <p>
+ * The deck is a 52 bit mask, one bit per {@link Card#getIndex()}, so that removing the cards kept
+ * and discarded from it is a matter of bit arithmetic. Completions are enumerated without
+ * allocating, carrying the rank counts, rank mask and common suit of the cards so far down the
+ * recursion. Draws of more than one card are split by their first card and run in parallel
+ */
+@Component
+public class DrawAnalyzer {
+  private static final int HAND_SIZE = 5;
+  private static final long FULL_DECK = (1L << Card.DECK_SIZE) - 1;
+  private static final int NO_CARDS = -1;
+  private static final int MIXED_SUITS = -2;
+
+  /**
+   * Analyzes completing the cards given, which are out of the deck
+   */
+  public DrawOutcome analyze(@NonNull final Card[] keptCards) {
+    return analyze(keptCards, new Card[0]);
+  }
+
+  /**
+   * Analyzes completing the cards kept. Both the cards kept and the ones discarded are out of the
+   * deck
+   */
+  public DrawOutcome analyze(
+    @NonNull final Card[] keptCards,
+    @NonNull final Card[] discardedCards
+  ) {
+    if (keptCards.length > HAND_SIZE) {
+      throw new IllegalArgumentException("Cannot keep more than " + HAND_SIZE + " cards");
+    }
+    final long keptMask = mask(keptCards);
+    final long deadMask = keptMask | mask(discardedCards);
+    if (Long.bitCount(deadMask) != keptCards.length + discardedCards.length) {
+      throw new IllegalArgumentException("One or more Cards where found identical");
+    }
+    final int[] deck = cardIndexes(FULL_DECK & ~deadMask);
+
+    long rankCounts = 0L;
+    int rankMask = 0;
+    int suit = NO_CARDS;
+    for (final Card card : keptCards) {
+      rankCounts += FastHandNameEvaluator.rankCount(card.getIndex());
+      rankMask |= FastHandNameEvaluator.rankBit(card.getIndex());
+      suit = nextSuit(suit, card.getIndex());
+    }
+
+    final int cardsToDraw = HAND_SIZE - keptCards.length;
+    final long[] completionsByHandName;
+    if (cardsToDraw < 2) {
+      completionsByHandName = new long[HandName.values().length];
+      enumerate(deck, 0, cardsToDraw, rankCounts, rankMask, suit, completionsByHandName);
+    } else {
+      final long finalRankCounts = rankCounts;
+      final int finalRankMask = rankMask;
+      final int finalSuit = suit;
+      completionsByHandName = IntStream.range(0, deck.length - cardsToDraw + 1)
+        .parallel()
+        .mapToObj(first -> {
+          final long[] completions = new long[HandName.values().length];
+          enumerate(
+            deck, first + 1, cardsToDraw - 1,
+            finalRankCounts + FastHandNameEvaluator.rankCount(deck[first]),
+            finalRankMask | FastHandNameEvaluator.rankBit(deck[first]),
+            nextSuit(finalSuit, deck[first]),
+            completions
+          );
+          return completions;
+        })
+        .reduce(new long[HandName.values().length], DrawAnalyzer::sum);
+    }
+    return new DrawOutcome(keptCards, discardedCards, completionsByHandName);
+  }
+
+  /**
+   * Finds the cards to discard from a five card hand that give the best expected hand rank after
+   * drawing as many cards, trying every one of the 32 possible discards. Standing pat is preferred
+   * on a tie, then discarding fewer cards
+   */
+  public DrawOutcome findBestDiscard(@NonNull final Hand hand) {
+    final Card[] cards = hand.getCards();
+    DrawOutcome bestOutcome = null;
+    for (int discardCount = 0; discardCount <= cards.length; discardCount++) {
+      for (int discardMask = 0; discardMask < 1 << cards.length; discardMask++) {
+        if (Integer.bitCount(discardMask) != discardCount) {
+          continue;
+        }
+        final DrawOutcome outcome = analyze(
+          select(cards, ~discardMask), select(cards, discardMask)
+        );
+        if (bestOutcome == null || outcome.getExpectedRank() > bestOutcome.getExpectedRank()) {
+          bestOutcome = outcome;
+        }
+      }
+    }
+    return bestOutcome;
+  }
+
+  /**
+   * Names every combination of the cards left to draw out of deck[from..], adding them up per
+   * hand name
+   */
+  private static void enumerate(
+    final int[] deck,
+    final int from,
+    final int cardsToDraw,
+    final long rankCounts,
+    final int rankMask,
+    final int suit,
+    final long[] completionsByHandName
+  ) {
+    if (cardsToDraw == 0) {
+      final HandName handName = FastHandNameEvaluator.evaluate(rankCounts, rankMask, suit >= 0);
+      ++completionsByHandName[handName.ordinal()];
+      return;
+    }
+    for (int i = from; i <= deck.length - cardsToDraw; i++) {
+      enumerate(
+        deck, i + 1, cardsToDraw - 1,
+        rankCounts + FastHandNameEvaluator.rankCount(deck[i]),
+        rankMask | FastHandNameEvaluator.rankBit(deck[i]),
+        nextSuit(suit, deck[i]),
+        completionsByHandName
+      );
+    }
+  }
+
+  private static int nextSuit(final int suit, final int cardIndex) {
+    final int cardSuit = cardIndex % Card.SUITS.length();
+    if (suit == NO_CARDS) {
+      return cardSuit;
+    }
+    return suit == cardSuit ? suit : MIXED_SUITS;
+  }
+
+  private static long mask(final Card[] cards) {
+    long mask = 0L;
+    for (final Card card : cards) {
+      mask |= 1L << card.getIndex();
+    }
+    return mask;
+  }
+
+  private static int[] cardIndexes(final long mask) {
+    final int[] cardIndexes = new int[Long.bitCount(mask)];
+    long remaining = mask;
+    for (int i = 0; i < cardIndexes.length; i++) {
+      cardIndexes[i] = Long.numberOfTrailingZeros(remaining);
+      remaining &= remaining - 1;
+    }
+    return cardIndexes;
+  }
+
+  private static Card[] select(final Card[] cards, final int selectionMask) {
+    return IntStream.range(0, cards.length)
+      .filter(i -> (selectionMask & 1 << i) != 0)
+      .mapToObj(i -> cards[i])
+      .toArray(Card[]::new);
+  }
+
+  private static long[] sum(final long[] left, final long[] right) {
+    final long[] sum = Arrays.copyOf(left, left.length);
+    for (int i = 0; i < right.length; i++) {
+      sum[i] += right[i];
+    }
+    return sum;
+  }
+}
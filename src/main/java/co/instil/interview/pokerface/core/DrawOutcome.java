@@ -0,0 +1,85 @@
+package co.instil.interview.pokerface.core;
+
+import co.instil.interview.pokerface.domain.Card;
+import co.instil.interview.pokerface.domain.Hand.HandName;
+import java.util.Arrays;
+import java.util.Comparator;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The distribution of the final hand names over every possible way to complete the cards kept
+ * from what's left in the deck
+ */
+@Getter
+public class DrawOutcome {
+  private static final HandName[] HAND_NAMES_BY_RANK = Arrays.stream(HandName.values())
+    .sorted(Comparator.comparingInt(HandName::getRank).reversed())
+    .toArray(HandName[]::new);
+
+  private final Card[] keptCards;
+  private final Card[] discardedCards;
+  /**
+   * The number of completions per {@link HandName#ordinal()}
+   */
+  private final long[] completionsByHandName;
+  private final long completions;
+
+  DrawOutcome(
+    @NonNull final Card[] keptCards,
+    @NonNull final Card[] discardedCards,
+    @NonNull final long[] completionsByHandName
+  ) {
+    this.keptCards = keptCards;
+    this.discardedCards = discardedCards;
+    this.completionsByHandName = completionsByHandName;
+    this.completions = Arrays.stream(completionsByHandName).sum();
+  }
+
+  public int getCardsToDraw() {
+    return 5 - keptCards.length;
+  }
+
+  public long getCompletions(@NonNull final HandName handName) {
+    return completionsByHandName[handName.ordinal()];
+  }
+
+  public double getProbability(@NonNull final HandName handName) {
+    return completions == 0 ? 0.0 : (double) getCompletions(handName) / completions;
+  }
+
+  /**
+   * @return the average {@link HandName#getRank()} of the final hand, the measure draws are
+   *   compared by
+   */
+  public double getExpectedRank() {
+    double expectedRank = 0.0;
+    for (final HandName handName : HandName.values()) {
+      expectedRank += getProbability(handName) * handName.getRank();
+    }
+    return expectedRank;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder description = new StringBuilder();
+    description.append(String.format(
+      "Keeping [%s], discarding [%s] and drawing %d card(s): %d possible hands%n",
+      join(keptCards), join(discardedCards), getCardsToDraw(), completions
+    ));
+    for (final HandName handName : HAND_NAMES_BY_RANK) {
+      if (getCompletions(handName) > 0) {
+        description.append(String.format(
+          "  %-16s %12d %9.4f%%%n",
+          handName, getCompletions(handName), getProbability(handName) * 100
+        ));
+      }
+    }
+    description.append(String.format("  Expected hand rank: %.4f", getExpectedRank()));
+    return description.toString();
+  }
+
+  private static String join(final Card[] cards) {
+    return String.join(" ", Arrays.stream(cards).map(Card::toString).toArray(String[]::new));
+  }
+}
@@ -0,0 +1,259 @@
+package co.instil.interview.pokerface.core;
+
+import co.instil.interview.pokerface.domain.Combinatorics;
+import co.instil.interview.pokerface.domain.Hand.HandName;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import lombok.NonNull;
+
+/**
+ * Lookup tables naming hands of five or seven cards without enumerating the five card hands they
+ * contain. A hand's name is the best of two lookups:
+ * <ul>
+ *   <li>the rank table, indexed by the multiset of the hand's ranks, which holds the best name
+ *   that can be made ignoring suits</li>
+ *   <li>the flush table, indexed by the ranks of the suit with five or more cards, if any, which
+ *   holds the best flush, straight flush or royal flush made out of them</li>
+ * </ul>
+ * The tables are generated at build time by the {@link EvaluationTablesGenerator} and are read
+ * through a read-only memory mapped buffer. This keeps them off the heap, makes loading them
+ * next to free, and lets every JVM on the machine share the same pages, which matters to short
+ * lived runs and to the shard workers. When the tables are packed in the application's jar, they
+ * are extracted once to the temporary directory, under a name derived from their checksum, so
+ * that later runs map the very same file
+ */
+public final class EvaluationTables {
+  public static final String RESOURCE = "evaluation-tables.bin";
+  /**
+   * System property pointing to a tables file to use instead of the one shipped
+   */
+  public static final String PATH_PROPERTY = "pokerface.evaluation-tables.path";
+
+  static final int MAGIC = 0x504B4654;
+  static final int VERSION = 1;
+  static final int FLUSH_TABLE_SIZE = 1 << 13;
+  /**
+   * The rank masks of all straights, from the weakest to the strongest
+   */
+  static final int[] STRAIGHT_WINDOWS = {
+    FastHandNameEvaluator.WHEEL_MASK,
+    0b11111, 0b11111 << 1, 0b11111 << 2, 0b11111 << 3, 0b11111 << 4,
+    0b11111 << 5, 0b11111 << 6, 0b11111 << 7, FastHandNameEvaluator.ROYAL_MASK
+  };
+
+  private static final int RANKS = 13;
+  private static final int MAX_CARDS = 7;
+  private static final int[][] BINOMIALS = Combinatorics.binomials(RANKS + MAX_CARDS, MAX_CARDS);
+  private static final HandName[] HAND_NAMES_BY_RANK = handNamesByRank();
+
+  private static volatile EvaluationTables shared;
+
+  private final ByteBuffer flushTable;
+  private final ByteBuffer fiveCardRankTable;
+  private final ByteBuffer sevenCardRankTable;
+
+  private EvaluationTables(final ByteBuffer buffer) {
+    if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+      throw new IllegalStateException("The evaluation tables are corrupt or of another version");
+    }
+    flushTable = section(buffer, FLUSH_TABLE_SIZE);
+    fiveCardRankTable = section(buffer, rankTableSize(5));
+    sevenCardRankTable = section(buffer, rankTableSize(7));
+  }
+
+  /**
+   * @return the tables shared by the whole JVM, mapped on first use
+   * @throws IllegalStateException if the tables configured through {@value #PATH_PROPERTY} could
+   *   not be mapped. Failing that, a later call tries again
+   */
+  public static EvaluationTables shared() {
+    EvaluationTables tables = shared;
+    if (tables == null) {
+      synchronized (EvaluationTables.class) {
+        tables = shared;
+        if (tables == null) {
+          tables = load(System.getProperty(PATH_PROPERTY),
+            EvaluationTables.class.getClassLoader().getResource(RESOURCE));
+          shared = tables;
+        }
+      }
+    }
+    return tables;
+  }
+
+  public static EvaluationTables map(@NonNull final Path path) throws IOException {
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      // The mapping outlives the channel
+      return new EvaluationTables(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /**
+   * @param suitedRankMask the ranks of the cards of a single suit, at least 5 of them
+   */
+  public HandName flushName(final int suitedRankMask) {
+    return handName(flushTable.get(suitedRankMask));
+  }
+
+  /**
+   * @param rankCounts the number of cards per rank, 4 bits per rank, as in the
+   *   {@link FastHandNameEvaluator}
+   * @param cards the number of cards counted, either 5 or 7
+   */
+  public HandName rankName(final long rankCounts, final int cards) {
+    final int index = rankIndex(rankCounts);
+    switch (cards) {
+      case 5:
+        return handName(fiveCardRankTable.get(index));
+      case 7:
+        return handName(sevenCardRankTable.get(index));
+      default:
+        throw new IllegalArgumentException("There are no tables for " + cards + " cards");
+    }
+  }
+
+  /**
+   * @return the number of multisets of the given number of ranks
+   */
+  static int rankTableSize(final int cards) {
+    return BINOMIALS[RANKS + cards - 1][cards];
+  }
+
+  /**
+   * Ranks a multiset of ranks among the multisets of the same size. Sorting the ranks in
+   * ascending order and adding their position to each turns the multiset into a set, which is
+   * then ranked with the combinatorial number system
+   */
+  static int rankIndex(final int[] rankCounts) {
+    int index = 0;
+    int position = 0;
+    for (int rank = 0; rank < rankCounts.length; rank++) {
+      for (int i = 0; i < rankCounts[rank]; i++) {
+        ++position;
+        index += BINOMIALS[rank + position - 1][position];
+      }
+    }
+    return index;
+  }
+
+  static int rankIndex(final long rankCounts) {
+    int index = 0;
+    int position = 0;
+    for (int rank = 0; rank < RANKS; rank++) {
+      final int count = (int) (rankCounts >>> (rank << 2)) & 0xF;
+      for (int i = 0; i < count; i++) {
+        ++position;
+        index += BINOMIALS[rank + position - 1][position];
+      }
+    }
+    return index;
+  }
+
+  private static HandName handName(final byte rank) {
+    final HandName handName = HAND_NAMES_BY_RANK[rank];
+    if (handName == null) {
+      throw new IllegalArgumentException("The evaluation tables hold no name for this hand");
+    }
+    return handName;
+  }
+
+  private static ByteBuffer section(final ByteBuffer buffer, final int expectedLength) {
+    final int length = buffer.getInt();
+    if (length != expectedLength) {
+      throw new IllegalStateException("The evaluation tables are corrupt or of another version");
+    }
+    final ByteBuffer section = buffer.duplicate();
+    section.limit(section.position() + length);
+    buffer.position(buffer.position() + length);
+    return section.slice();
+  }
+
+  /**
+   * Maps the tables configured or, failing that, the ones shipped. Should the shipped tables be
+   * missing or impossible to extract, as when running off an IDE's build or with a read-only
+   * temporary directory, they are generated on the heap instead
+   */
+  static EvaluationTables load(final String configuredPath, final URL resource) {
+    if (configuredPath != null) {
+      try {
+        return map(Paths.get(configuredPath));
+      } catch (final IOException | RuntimeException e) {
+        throw new IllegalStateException(
+          "Failed to map the evaluation tables configured at " + configuredPath, e
+        );
+      }
+    }
+    try {
+      if (resource != null && "file".equals(resource.getProtocol())) {
+        return map(Paths.get(resource.toURI()));
+      }
+      return map(extract(resource));
+    } catch (final IOException | URISyntaxException | RuntimeException e) {
+      System.err.println(
+        "Failed to map the evaluation tables, generating them instead: " + e.getMessage()
+      );
+      return new EvaluationTables(ByteBuffer.wrap(generate()));
+    }
+  }
+
+  /**
+   * Copies the tables out of the jar, unless a previous run has done so already. Should the
+   * tables be missing altogether, as when running off an IDE's build, they are generated instead
+   */
+  private static Path extract(final URL resource) throws IOException {
+    final byte[] tables;
+    if (resource != null) {
+      try (final InputStream in = resource.openStream()) {
+        tables = in.readAllBytes();
+      }
+    } else {
+      tables = generate();
+    }
+    final CRC32 checksum = new CRC32();
+    checksum.update(tables);
+    final Path temporaryDirectory = Paths.get(System.getProperty("java.io.tmpdir"));
+    final Path path = temporaryDirectory.resolve(
+      "pokerface-" + Long.toHexString(checksum.getValue()) + "-" + RESOURCE
+    );
+    if (!Files.exists(path) || Files.size(path) != tables.length) {
+      // Written aside and moved in place, so that concurrent runs never map a half written file
+      final Path partialPath = Files.createTempFile(temporaryDirectory, "pokerface-", ".part");
+      Files.write(partialPath, tables);
+      Files.move(
+        partialPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING
+      );
+    }
+    return path;
+  }
+
+  private static byte[] generate() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try {
+      EvaluationTablesGenerator.write(out);
+    } catch (final IOException e) {
+      // Never thrown by a ByteArrayOutputStream
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+
+  private static HandName[] handNamesByRank() {
+    final HandName[] handNames = new HandName[HandName.values().length + 1];
+    for (final HandName handName : HandName.values()) {
+      handNames[handName.getRank()] = handName;
+    }
+    return handNames;
+  }
+}
@@ -0,0 +1,145 @@
+package co.instil.interview.pokerface.core;
+
+import co.instil.interview.pokerface.domain.Hand.HandName;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import lombok.NonNull;
+
+/**
+ * Generates the binary file behind the {@link EvaluationTables}. It runs at build time, through
+ * the {@code generateEvaluationTables} Gradle task, and the file it writes ships with the
+ * application as a resource. Every entry is worked out with the {@link FastHandNameEvaluator}, so
+ * the tables name hands exactly as the rest of the application does
+ */
+public final class EvaluationTablesGenerator {
+  private static final int RANKS = 13;
+
+  private EvaluationTablesGenerator() {
+  }
+
+  public static void main(final String... args) throws IOException {
+    if (args.length != 1) {
+      throw new IllegalArgumentException("Usage: EvaluationTablesGenerator <output file>");
+    }
+    final Path output = Paths.get(args[0]);
+    if (output.getParent() != null) {
+      Files.createDirectories(output.getParent());
+    }
+    try (final OutputStream out = Files.newOutputStream(output)) {
+      write(out);
+    }
+  }
+
+  public static void write(@NonNull final OutputStream out) throws IOException {
+    final DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(EvaluationTables.MAGIC);
+    data.writeInt(EvaluationTables.VERSION);
+    writeSection(data, flushTable());
+    writeSection(data, rankTable(5));
+    writeSection(data, rankTable(7));
+    data.flush();
+  }
+
+  private static void writeSection(final DataOutputStream data, final byte[] table)
+    throws IOException {
+    data.writeInt(table.length);
+    data.write(table);
+  }
+
+  /**
+   * The best flush type name made out of the suited ranks in the mask, for masks of 5 or more
+   * ranks
+   */
+  static byte[] flushTable() {
+    final byte[] table = new byte[EvaluationTables.FLUSH_TABLE_SIZE];
+    for (int rankMask = 0; rankMask < table.length; rankMask++) {
+      if (Integer.bitCount(rankMask) < 5) {
+        continue;
+      }
+      HandName bestHandName = HandName.FLUSH;
+      for (int window = EvaluationTables.STRAIGHT_WINDOWS.length - 1; window >= 0; window--) {
+        final int windowMask = EvaluationTables.STRAIGHT_WINDOWS[window];
+        if ((rankMask & windowMask) == windowMask) {
+          bestHandName = FastHandNameEvaluator.evaluate(0L, windowMask, true);
+          break;
+        }
+      }
+      table[rankMask] = (byte) bestHandName.getRank();
+    }
+    return table;
+  }
+
+  /**
+   * The best name, flushes aside, made out of 5 of the ranks of each multiset of the given size
+   */
+  static byte[] rankTable(final int cards) {
+    final byte[] table = new byte[EvaluationTables.rankTableSize(cards)];
+    final int[] rankCounts = new int[RANKS];
+    fillRankTable(table, rankCounts, 0, cards);
+    return table;
+  }
+
+  private static void fillRankTable(
+    final byte[] table,
+    final int[] rankCounts,
+    final int fromRank,
+    final int cardsLeft
+  ) {
+    if (cardsLeft == 0) {
+      table[EvaluationTables.rankIndex(rankCounts)] = (byte) bestOfFive(rankCounts).getRank();
+      return;
+    }
+    for (int rank = fromRank; rank < RANKS; rank++) {
+      // There are only four cards of each rank
+      if (rankCounts[rank] < 4) {
+        ++rankCounts[rank];
+        fillRankTable(table, rankCounts, rank, cardsLeft - 1);
+        --rankCounts[rank];
+      }
+    }
+  }
+
+  private static HandName bestOfFive(final int[] rankCounts) {
+    final int[] picked = new int[RANKS];
+    return bestOfFive(rankCounts, picked, 0, 5);
+  }
+
+  /**
+   * @return the best name made out of 5 of the counted ranks, or null if fewer than the cards
+   *   left can be picked from the given rank onwards
+   */
+  private static HandName bestOfFive(
+    final int[] rankCounts,
+    final int[] picked,
+    final int fromRank,
+    final int cardsLeft
+  ) {
+    if (cardsLeft == 0) {
+      long packedRankCounts = 0L;
+      int rankMask = 0;
+      for (int rank = 0; rank < RANKS; rank++) {
+        packedRankCounts += (long) picked[rank] << (rank << 2);
+        rankMask |= picked[rank] > 0 ? 1 << rank : 0;
+      }
+      return FastHandNameEvaluator.evaluate(packedRankCounts, rankMask, false);
+    }
+    HandName bestHandName = null;
+    for (int rank = fromRank; rank < RANKS; rank++) {
+      if (picked[rank] < rankCounts[rank]) {
+        ++picked[rank];
+        final HandName handName = bestOfFive(rankCounts, picked, rank, cardsLeft - 1);
+        --picked[rank];
+        // Picking from the higher ranks only may leave too few cards to pick from
+        if (handName != null
+          && (bestHandName == null || handName.getRank() > bestHandName.getRank())) {
+          bestHandName = handName;
+        }
+      }
+    }
+    return bestHandName;
+  }
+}
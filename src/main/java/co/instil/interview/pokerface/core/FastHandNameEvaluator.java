@@ -0,0 +1,120 @@
+package co.instil.interview.pokerface.core;
+
+import static co.instil.interview.pokerface.domain.Hand.HandName.FLUSH;
+import static co.instil.interview.pokerface.domain.Hand.HandName.FOUR_OF_A_KIND;
+import static co.instil.interview.pokerface.domain.Hand.HandName.FULL_HOUSE;
+import static co.instil.interview.pokerface.domain.Hand.HandName.HIGH_CARD;
+import static co.instil.interview.pokerface.domain.Hand.HandName.ONE_PAIR;
+import static co.instil.interview.pokerface.domain.Hand.HandName.ROYAL_FLUSH;
+import static co.instil.interview.pokerface.domain.Hand.HandName.STRAIGHT;
+import static co.instil.interview.pokerface.domain.Hand.HandName.STRAIGHT_FLUSH;
+import static co.instil.interview.pokerface.domain.Hand.HandName.THREE_OF_A_KIND;
+import static co.instil.interview.pokerface.domain.Hand.HandName.TWO_PAIR;
+
+import co.instil.interview.pokerface.domain.Card;
+import co.instil.interview.pokerface.domain.Hand.HandName;
+import lombok.NonNull;
+
+/**
+ * Names five cards out of their rank counts and a flush flag, without going through the
+ * predicates of {@link HandNameDeterminer}. It is meant for the callers that need to name a lot
+ * of five card combinations per input (Omaha, draws etc.) and keeps everything in primitives so
+ * that nothing gets allocated per combination.
+ * <p>
+ * Cards are given by their {@link Card#getIndex()}. Rank counts are packed in a long, 4 bits per
+ * rank, and the ranks present in a 13 bit mask, the lowest bit standing for the deuce
+ */
+public final class FastHandNameEvaluator {
+  public static final int WHEEL_MASK = 0b1_0000_0000_1111;
+  public static final int ROYAL_MASK = 0b1_1111_0000_0000;
+  private static final int STRAIGHT_BITS = 0b1_1111;
+  private static final int RANKS = Card.NAMES.length();
+  private static final int SUITS = Card.SUITS.length();
+
+  private FastHandNameEvaluator() {
+  }
+
+  public static HandName evaluate(@NonNull final Card[] cards) {
+    assert cards.length == 5;
+    return evaluate(
+      cards[0].getIndex(),
+      cards[1].getIndex(),
+      cards[2].getIndex(),
+      cards[3].getIndex(),
+      cards[4].getIndex()
+    );
+  }
+
+  public static HandName evaluate(
+    final int card0,
+    final int card1,
+    final int card2,
+    final int card3,
+    final int card4
+  ) {
+    final long rankCounts = rankCount(card0) + rankCount(card1) + rankCount(card2)
+      + rankCount(card3) + rankCount(card4);
+    final int rankMask = rankBit(card0) | rankBit(card1) | rankBit(card2) | rankBit(card3)
+      | rankBit(card4);
+    final int suit = card0 % SUITS;
+    final boolean flush = card1 % SUITS == suit && card2 % SUITS == suit
+      && card3 % SUITS == suit && card4 % SUITS == suit;
+    return evaluate(rankCounts, rankMask, flush);
+  }
+
+  /**
+   * @param rankCounts the number of cards per rank, 4 bits per rank
+   * @param rankMask the ranks present, one bit per rank
+   * @param flush whether all five cards share a suit
+   */
+  public static HandName evaluate(final long rankCounts, final int rankMask, final boolean flush) {
+    switch (Integer.bitCount(rankMask)) {
+      case 5:
+        // As with the HandNameDeterminer, the ace high sequence only counts when it is suited,
+        // i.e. as a royal flush
+        final boolean straight = isStraight(rankMask) && (flush || rankMask != ROYAL_MASK);
+        if (flush) {
+          if (straight) {
+            return rankMask == ROYAL_MASK ? ROYAL_FLUSH : STRAIGHT_FLUSH;
+          }
+          return FLUSH;
+        }
+        return straight ? STRAIGHT : HIGH_CARD;
+      case 4:
+        return ONE_PAIR;
+      case 3:
+        return highestRankCount(rankCounts) == 3 ? THREE_OF_A_KIND : TWO_PAIR;
+      case 2:
+        return highestRankCount(rankCounts) == 4 ? FOUR_OF_A_KIND : FULL_HOUSE;
+      default:
+        throw new IllegalArgumentException(
+          "Could not determine the name for rank mask '" + Integer.toBinaryString(rankMask) + "'"
+        );
+    }
+  }
+
+  /**
+   * @return true if the mask consists of exactly five consecutive ranks, the ace counting as both
+   *   the highest and the lowest rank
+   */
+  public static boolean isStraight(final int rankMask) {
+    return rankMask == WHEEL_MASK
+      || rankMask >>> Integer.numberOfTrailingZeros(rankMask) == STRAIGHT_BITS;
+  }
+
+  public static long rankCount(final int cardIndex) {
+    return 1L << ((cardIndex / SUITS) << 2);
+  }
+
+  public static int rankBit(final int cardIndex) {
+    return 1 << (cardIndex / SUITS);
+  }
+
+  static int highestRankCount(final long rankCounts) {
+    int highestRankCount = 0;
+    for (int rank = 0; rank < RANKS; rank++) {
+      highestRankCount = Math.max(highestRankCount, (int) (rankCounts >>> (rank << 2)) & 0xF);
+    }
+    return highestRankCount;
+  }
+}
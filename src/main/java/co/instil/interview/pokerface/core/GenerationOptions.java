@@ -0,0 +1,64 @@
+package co.instil.interview.pokerface.core;
+
+import co.instil.interview.pokerface.domain.Hand.HandName;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * What the {@link HandFileGenerator} should write
+ */
+@Builder
+@Getter
+public class GenerationOptions {
+  private final long lines;
+
+  /**
+   * The same seed always generates the same file, whatever the parallelism
+   */
+  private final long seed;
+
+  /**
+   * The relative weight of each {@link HandName}, indexed by ordinal. When missing, hands are
+   * dealt at random and come out with the odds of a real deal, i.e. mostly high cards and pairs
+   */
+  private final double[] categoryWeights;
+
+  /**
+   * The share of lines, in [0, 1], that {@link co.instil.interview.pokerface.domain.Hand#parse}
+   * rejects
+   */
+  private final double malformedFraction;
+
+  @Builder.Default
+  private final int parallelism = Runtime.getRuntime().availableProcessors();
+
+  /**
+   * The number of lines generated, and written, as a single unit of work
+   */
+  @Builder.Default
+  private final int blockLines = 1 << 16;
+
+  /**
+   * Parses the category weights given on the command line
+   *
+   * @param categoryWeights comma separated {@link HandName}s and weights, e.g.
+   *   HIGH_CARD=50,ONE_PAIR=40,FLUSH=10. Names left out get no hands at all
+   */
+  public static double[] parseCategoryWeights(final String categoryWeights) {
+    if (categoryWeights == null) {
+      return null;
+    }
+    final double[] weights = new double[HandName.values().length];
+    for (final String categoryWeight : categoryWeights.split(",")) {
+      final String[] nameAndWeight = categoryWeight.split("=");
+      if (nameAndWeight.length != 2) {
+        throw new IllegalArgumentException(
+          "The input string [" + categoryWeight + "] is not a valid category weight, e.g. FLUSH=10"
+        );
+      }
+      final HandName handName = HandNameFilter.parseHandName(nameAndWeight[0]);
+      weights[handName.ordinal()] = Double.parseDouble(nameAndWeight[1].trim());
+    }
+    return weights;
+  }
+}
@@ -0,0 +1,408 @@
+package co.instil.interview.pokerface.core;
+
+import co.instil.interview.pokerface.core.pipeline.PipelineThreads;
+import co.instil.interview.pokerface.domain.Card;
+import co.instil.interview.pokerface.domain.Hand.HandName;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes files of random hands, to load test the processing of files far larger than the sample
+ * one.
+ * <p>
+ * Lines are generated in blocks. Every block gets its own {@link SplittableRandom}, split off the
+ * seeded one in block order, so the file only depends on the seed. Blocks are generated in
+ * parallel, straight into pooled direct buffers, and each is written at its own position as soon
+ * as the sizes of the blocks before it are known. The pool holds twice as many buffers as there
+ * are threads, which bounds the memory used whatever the number of lines.
+ * <p>
+ * Hands of a given category are built directly rather than dealt until one comes out right, so
+ * that skewing the file towards rare categories costs nothing
+ */
+@Component
+public class HandFileGenerator {
+  private static final int RANKS = Card.NAMES.length();
+  private static final int SUITS = Card.SUITS.length();
+  private static final byte[] NAMES = Card.NAMES.getBytes();
+  private static final byte[] SUIT_NAMES = Card.SUITS.getBytes();
+  private static final byte[] INVALID_NAMES = "01BX".getBytes();
+  private static final byte[] INVALID_SUITS = "BEXZ".getBytes();
+  /**
+   * The longest line written, i.e. one with too many cards
+   */
+  private static final int MAX_LINE_BYTES = 6 * 3;
+  /**
+   * The cards of each group of ranks, by category, e.g. a full house is three cards of a rank and
+   * two of another
+   */
+  private static final int[] ONE_PAIR_GROUPS = {2, 1, 1, 1};
+  private static final int[] TWO_PAIR_GROUPS = {2, 2, 1};
+  private static final int[] THREE_OF_A_KIND_GROUPS = {3, 1, 1};
+  private static final int[] FULL_HOUSE_GROUPS = {3, 2};
+  private static final int[] FOUR_OF_A_KIND_GROUPS = {4, 1};
+  private static final int[] HIGH_CARD_GROUPS = {1, 1, 1, 1, 1};
+  private static final int ROYAL_WINDOW = EvaluationTables.STRAIGHT_WINDOWS.length - 1;
+
+  /**
+   * @return the number of bytes written
+   */
+  public long generate(@NonNull final Path path, @NonNull final GenerationOptions options)
+    throws IOException, InterruptedException {
+    final double[] cumulativeWeights = cumulativeWeights(options.getCategoryWeights());
+    if (options.getMalformedFraction() < 0 || options.getMalformedFraction() > 1) {
+      throw new IllegalArgumentException("The malformed fraction has to be within [0, 1]");
+    }
+    if (options.getLines() < 0 || options.getParallelism() < 1 || options.getBlockLines() < 1) {
+      throw new IllegalArgumentException(
+        "The number of lines, threads and lines per block have to be positive"
+      );
+    }
+
+    final int parallelism = options.getParallelism();
+    final BlockingQueue<ByteBuffer> buffers = new ArrayBlockingQueue<>(parallelism * 2);
+    for (int i = 0; i < parallelism * 2; i++) {
+      buffers.add(ByteBuffer.allocateDirect(options.getBlockLines() * MAX_LINE_BYTES));
+    }
+    final ExecutorService workers = Executors.newFixedThreadPool(
+      parallelism, PipelineThreads.factory("generate")
+    );
+    final SplittableRandom seededRandom = new SplittableRandom(options.getSeed());
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+    final List<CompletableFuture<Void>> writes = new ArrayList<>();
+    try (final FileChannel channel = FileChannel.open(
+      path,
+      StandardOpenOption.CREATE,
+      StandardOpenOption.TRUNCATE_EXISTING,
+      StandardOpenOption.WRITE
+    )) {
+      CompletableFuture<Long> previousBlockEnd = CompletableFuture.completedFuture(0L);
+      for (long line = 0; line < options.getLines() && failure.get() == null;
+        line += options.getBlockLines()) {
+        final int blockLines = (int) Math.min(options.getBlockLines(), options.getLines() - line);
+        final SplittableRandom random = seededRandom.split();
+        final ByteBuffer buffer = buffers.take();
+        final CompletableFuture<Long> blockEnd = CompletableFuture.supplyAsync(
+          () -> generateBlock(buffer, random, blockLines, cumulativeWeights, options),
+          workers
+        ).thenCombine(
+          previousBlockEnd, (generatedBlock, start) -> start + generatedBlock.remaining()
+        );
+        writes.add(
+          blockEnd.thenAcceptAsync(end -> write(channel, buffer, end - buffer.remaining()), workers)
+            .whenComplete((ignored, throwable) -> {
+              if (throwable != null) {
+                failure.compareAndSet(null, throwable);
+              }
+              buffer.clear();
+              buffers.add(buffer);
+            })
+        );
+        previousBlockEnd = blockEnd;
+      }
+      CompletableFuture.allOf(writes.toArray(new CompletableFuture<?>[0])).get();
+      return previousBlockEnd.get();
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause() instanceof UncheckedIOException
+        ? e.getCause().getCause()
+        : e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      throw new IllegalStateException("Failed to generate " + path, cause);
+    } finally {
+      workers.shutdownNow();
+    }
+  }
+
+  private static void write(final FileChannel channel, final ByteBuffer buffer, final long start) {
+    try {
+      long position = start;
+      while (buffer.hasRemaining()) {
+        position += channel.write(buffer, position);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static ByteBuffer generateBlock(
+    final ByteBuffer buffer,
+    final SplittableRandom random,
+    final int lines,
+    final double[] cumulativeWeights,
+    final GenerationOptions options
+  ) {
+    final int[] cards = new int[6];
+    for (int line = 0; line < lines; line++) {
+      if (random.nextDouble() < options.getMalformedFraction()) {
+        putMalformedHand(buffer, random, cards);
+      } else {
+        if (cumulativeWeights == null) {
+          dealCards(random, cards, 5);
+        } else {
+          dealCategory(random, pickCategory(random, cumulativeWeights), cards);
+        }
+        shuffle(random, cards, 5);
+        putCards(buffer, cards, 5);
+      }
+      buffer.put((byte) '\n');
+    }
+    return buffer.flip();
+  }
+
+  /**
+   * Writes one of the lines {@link co.instil.interview.pokerface.domain.Hand#parse} rejects: too
+   * few or too many cards, a card which does not exist or the same card twice
+   */
+  private static void putMalformedHand(
+    final ByteBuffer buffer,
+    final SplittableRandom random,
+    final int[] cards
+  ) {
+    switch (random.nextInt(4)) {
+      case 0:
+        dealCards(random, cards, 4);
+        putCards(buffer, cards, 4);
+        break;
+      case 1:
+        dealCards(random, cards, 6);
+        putCards(buffer, cards, 6);
+        break;
+      case 2:
+        dealCards(random, cards, 4);
+        putCards(buffer, cards, 4);
+        buffer.put((byte) ' ');
+        if (random.nextBoolean()) {
+          buffer.put(INVALID_NAMES[random.nextInt(INVALID_NAMES.length)]);
+          buffer.put(SUIT_NAMES[random.nextInt(SUITS)]);
+        } else {
+          buffer.put(NAMES[random.nextInt(RANKS)]);
+          buffer.put(INVALID_SUITS[random.nextInt(INVALID_SUITS.length)]);
+        }
+        break;
+      default:
+        dealCards(random, cards, 4);
+        cards[4] = cards[random.nextInt(4)];
+        shuffle(random, cards, 5);
+        putCards(buffer, cards, 5);
+        break;
+    }
+  }
+
+  private static void putCards(final ByteBuffer buffer, final int[] cards, final int count) {
+    for (int i = 0; i < count; i++) {
+      if (i > 0) {
+        buffer.put((byte) ' ');
+      }
+      buffer.put(NAMES[cards[i] / SUITS]);
+      buffer.put(SUIT_NAMES[cards[i] % SUITS]);
+    }
+  }
+
+  private static void dealCards(final SplittableRandom random, final int[] cards, final int count) {
+    long dealt = 0L;
+    for (int i = 0; i < count; i++) {
+      int card;
+      do {
+        card = random.nextInt(Card.DECK_SIZE);
+      } while ((dealt & 1L << card) != 0);
+      dealt |= 1L << card;
+      cards[i] = card;
+    }
+  }
+
+  /**
+   * Fills the first 5 cards with a hand the {@link HandNameDeterminer} names as the given category
+   */
+  static void dealCategory(
+    final SplittableRandom random,
+    final HandName handName,
+    final int[] cards
+  ) {
+    switch (handName) {
+      case HIGH_CARD:
+        int rankMask;
+        do {
+          rankMask = dealGroups(random, HIGH_CARD_GROUPS, cards);
+          // The ace high sequence is a high card unless it is suited
+        } while (FastHandNameEvaluator.isStraight(rankMask)
+          && rankMask != FastHandNameEvaluator.ROYAL_MASK || isFlush(cards));
+        break;
+      case ONE_PAIR:
+        dealGroups(random, ONE_PAIR_GROUPS, cards);
+        break;
+      case TWO_PAIR:
+        dealGroups(random, TWO_PAIR_GROUPS, cards);
+        break;
+      case THREE_OF_A_KIND:
+        dealGroups(random, THREE_OF_A_KIND_GROUPS, cards);
+        break;
+      case FULL_HOUSE:
+        dealGroups(random, FULL_HOUSE_GROUPS, cards);
+        break;
+      case FOUR_OF_A_KIND:
+        dealGroups(random, FOUR_OF_A_KIND_GROUPS, cards);
+        break;
+      case STRAIGHT:
+        do {
+          dealRanks(random, EvaluationTables.STRAIGHT_WINDOWS[random.nextInt(ROYAL_WINDOW)], cards);
+        } while (isFlush(cards));
+        break;
+      case FLUSH:
+        int suitedRankMask;
+        do {
+          suitedRankMask = randomMask(random, RANKS, 5);
+        } while (FastHandNameEvaluator.isStraight(suitedRankMask));
+        dealSuited(random, suitedRankMask, cards);
+        break;
+      case STRAIGHT_FLUSH:
+        dealSuited(
+          random, EvaluationTables.STRAIGHT_WINDOWS[random.nextInt(ROYAL_WINDOW)], cards
+        );
+        break;
+      case ROYAL_FLUSH:
+        dealSuited(random, FastHandNameEvaluator.ROYAL_MASK, cards);
+        break;
+      default:
+        throw new IllegalArgumentException("Cannot deal a " + handName);
+    }
+  }
+
+  /**
+   * Deals groups of cards of the same rank, every group of a distinct rank
+   *
+   * @return the ranks dealt
+   */
+  private static int dealGroups(
+    final SplittableRandom random,
+    final int[] groups,
+    final int[] cards
+  ) {
+    int rankMask = 0;
+    int card = 0;
+    for (final int groupCards : groups) {
+      int rank;
+      do {
+        rank = random.nextInt(RANKS);
+      } while ((rankMask & 1 << rank) != 0);
+      rankMask |= 1 << rank;
+      final int suitMask = randomMask(random, SUITS, groupCards);
+      for (int suit = 0; suit < SUITS; suit++) {
+        if ((suitMask & 1 << suit) != 0) {
+          cards[card++] = rank * SUITS + suit;
+        }
+      }
+    }
+    return rankMask;
+  }
+
+  private static void dealRanks(
+    final SplittableRandom random,
+    final int rankMask,
+    final int[] cards
+  ) {
+    int card = 0;
+    for (int rank = 0; rank < RANKS; rank++) {
+      if ((rankMask & 1 << rank) != 0) {
+        cards[card++] = rank * SUITS + random.nextInt(SUITS);
+      }
+    }
+  }
+
+  private static void dealSuited(
+    final SplittableRandom random,
+    final int rankMask,
+    final int[] cards
+  ) {
+    final int suit = random.nextInt(SUITS);
+    int card = 0;
+    for (int rank = 0; rank < RANKS; rank++) {
+      if ((rankMask & 1 << rank) != 0) {
+        cards[card++] = rank * SUITS + suit;
+      }
+    }
+  }
+
+  private static boolean isFlush(final int[] cards) {
+    final int suit = cards[0] % SUITS;
+    for (int i = 1; i < 5; i++) {
+      if (cards[i] % SUITS != suit) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return a mask of the given number of bits, picked at random among the lowest ones
+   */
+  private static int randomMask(final SplittableRandom random, final int bits, final int bitCount) {
+    int mask = 0;
+    while (Integer.bitCount(mask) < bitCount) {
+      mask |= 1 << random.nextInt(bits);
+    }
+    return mask;
+  }
+
+  private static void shuffle(final SplittableRandom random, final int[] cards, final int count) {
+    for (int i = count - 1; i > 0; i--) {
+      final int j = random.nextInt(i + 1);
+      final int card = cards[i];
+      cards[i] = cards[j];
+      cards[j] = card;
+    }
+  }
+
+  private static HandName pickCategory(
+    final SplittableRandom random,
+    final double[] cumulativeWeights
+  ) {
+    final double total = cumulativeWeights[cumulativeWeights.length - 1];
+    // Rounding may otherwise take the pick up to the total, past the last weighted category
+    final double pick = Math.min(random.nextDouble() * total, Math.nextDown(total));
+    for (int ordinal = 0; ordinal < cumulativeWeights.length; ordinal++) {
+      if (pick < cumulativeWeights[ordinal]) {
+        return HandName.values()[ordinal];
+      }
+    }
+    throw new IllegalStateException("No category picked out of " + pick);
+  }
+
+  private static double[] cumulativeWeights(final double[] categoryWeights) {
+    if (categoryWeights == null) {
+      return null;
+    }
+    if (categoryWeights.length != HandName.values().length) {
+      throw new IllegalArgumentException("There has to be a weight for every hand name");
+    }
+    final double[] cumulativeWeights = new double[categoryWeights.length];
+    double total = 0;
+    for (int ordinal = 0; ordinal < categoryWeights.length; ordinal++) {
+      if (!(categoryWeights[ordinal] >= 0) || Double.isInfinite(categoryWeights[ordinal])) {
+        throw new IllegalArgumentException("Category weights cannot be negative");
+      }
+      total += categoryWeights[ordinal];
+      cumulativeWeights[ordinal] = total;
+    }
+    if (total == 0) {
+      throw new IllegalArgumentException("At least one category needs a weight");
+    }
+    return cumulativeWeights;
+  }
+}
@@ -1,12 +1,20 @@
 package co.instil.interview.pokerface.core;
 
+import co.instil.interview.pokerface.core.pipeline.LineProcessingPipeline;
+import co.instil.interview.pokerface.core.pipeline.PipelineSettings;
+import co.instil.interview.pokerface.core.pipeline.StageStatistics;
 import co.instil.interview.pokerface.domain.Hand;
 import co.instil.interview.pokerface.domain.Hand.HandName;
+import co.instil.interview.pokerface.domain.OmahaHand;
+import co.instil.interview.pokerface.domain.WildHand;
+import java.io.BufferedReader;
+import java.io.PrintStream;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Stream;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -16,25 +24,133 @@ import org.springframework.stereotype.Component;
 public class HandFileProcessor {
   @NonNull
   private final HandNameDeterminer handNameDeterminer;
+  @NonNull
+  private final OmahaHandNameDeterminer omahaHandNameDeterminer;
+  @NonNull
+  private final WildHandNameDeterminer wildHandNameDeterminer;
+  @NonNull
+  private final PipelineSettings pipelineSettings;
 
   public void processFile(final Path path) {
-    try (final Stream<String> lines = Files.lines(path, Charset.defaultCharset())) {
-      final AtomicLong lineNumber = new AtomicLong(0L);
-      lines.forEachOrdered(line -> {
-        final long thisLineNumber = lineNumber.incrementAndGet();
-        try {
-          final Hand hand = Hand.parse(line);
-          final HandName handName = handNameDeterminer.determineName(hand);
-          System.out.printf("%s => %s%n", hand, handName);
-        } catch (final IllegalArgumentException iae) {
-          System.out.printf("line: %d - ERROR: %s%n", thisLineNumber, iae.getMessage());
-        }
-      });
+    processFile(path, ProcessingOptions.DEFAULT);
+  }
+
+  /**
+   * Processes the file printing out only the hands accepted by the options' filter. Hands
+   * rejected are not formatted at all, while invalid lines are still reported
+   */
+  public void processFile(final Path path, @NonNull final ProcessingOptions options) {
+    final HandNameFilter filter = options.getFilter();
+    if (options.isEvaluationTables()) {
+      if (options.isPrintProfile() || options.isAdaptiveOrdering()) {
+        throw new IllegalArgumentException(
+          "Hands named with the evaluation tables can neither be profiled nor ordered"
+        );
+      }
+      processLines(path, options, handPipeline(
+        hand -> Optional.of(handNameDeterminer.determineBestName(hand.getCards()))
+          .filter(filter::accepts)
+      ));
+      return;
+    }
+    if (!options.isPrintProfile() && !options.isAdaptiveOrdering()) {
+      processLines(path, options, handPipeline(
+        hand -> handNameDeterminer.determineNameIfAccepted(hand, filter)
+      ));
+      return;
+    }
+    final DeterminationProfile profile = new DeterminationProfile(
+      options.isAdaptiveOrdering(), options.isPrintProfile()
+    );
+    final boolean processed = processLines(path, options, handPipeline(
+      hand -> handNameDeterminer.determineNameIfAccepted(hand, filter, profile)
+    ));
+    if (processed && options.isPrintProfile()) {
+      System.out.println(profile);
+    }
+  }
+
+  /**
+   * Processes the hands read, writing the output to the stream given. Unlike the methods
+   * processing files, failures are thrown rather than reported, so that callers processing part
+   * of a file on behalf of someone else can tell
+   *
+   * @return the number of lines read
+   */
+  public long processHands(
+    @NonNull final BufferedReader reader,
+    @NonNull final PrintStream out
+  ) throws Exception {
+    final List<StageStatistics> statistics = handPipeline(
+      hand -> Optional.of(handNameDeterminer.determineName(hand))
+    ).run(reader, out);
+    return statistics.get(0).getItems();
+  }
+
+  /**
+   * Processes a file of {@link OmahaHand}s, printing out each hand with the best hand name it can
+   * make next to it
+   */
+  public void processOmahaFile(final Path path) {
+    processLines(path, ProcessingOptions.DEFAULT, new LineProcessingPipeline<>(
+      pipelineSettings,
+      OmahaHand::parse,
+      hand -> Optional.of(formatLine(hand, omahaHandNameDeterminer.determineName(hand)))
+    ));
+  }
+
+  /**
+   * Processes a file of {@link WildHand}s, printing out each hand with the best hand name its
+   * jokers can make next to it
+   */
+  public void processWildFile(final Path path) {
+    processLines(path, ProcessingOptions.DEFAULT, new LineProcessingPipeline<>(
+      pipelineSettings,
+      WildHand::parse,
+      hand -> Optional.of(formatLine(hand, wildHandNameDeterminer.determineName(hand)))
+    ));
+  }
+
+  /**
+   * @param nameIfAccepted names a hand, or returns empty for hands that should not be printed
+   */
+  private LineProcessingPipeline<Hand> handPipeline(
+    final Function<Hand, Optional<HandName>> nameIfAccepted
+  ) {
+    return new LineProcessingPipeline<>(
+      pipelineSettings,
+      Hand::parse,
+      hand -> nameIfAccepted.apply(hand).map(handName -> formatLine(hand, handName))
+    );
+  }
+
+  /**
+   * @return the line printed for a hand, with its name next to it
+   */
+  static String formatLine(@NonNull final Object hand, @NonNull final HandName handName) {
+    return String.format("%s => %s", hand, handName);
+  }
+
+  /**
+   * @return false if the file could not be processed, which has been reported already
+   */
+  private <T> boolean processLines(
+    final Path path,
+    final ProcessingOptions options,
+    final LineProcessingPipeline<T> pipeline
+  ) {
+    try (final BufferedReader reader = Files.newBufferedReader(path, Charset.defaultCharset())) {
+      final List<StageStatistics> statistics = pipeline.run(reader, System.out);
+      if (options.isPrintStatistics()) {
+        System.out.println(LineProcessingPipeline.report(statistics));
+      }
+      return true;
     } catch (final Throwable e) {
       System.out.println(
         "Failed to process input file. Make sure its path is valid, it's readable of text format\n"
           + "and is not shared from a network location"
       );
+      return false;
     }
   }
 }
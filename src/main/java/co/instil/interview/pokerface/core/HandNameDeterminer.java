@@ -20,8 +20,11 @@ import co.instil.interview.pokerface.domain.Hand;
 import co.instil.interview.pokerface.domain.Hand.HandName;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collector;
 import lombok.NonNull;
@@ -29,6 +32,11 @@ import org.springframework.stereotype.Component;
 
 @Component
 public class HandNameDeterminer {
+  /**
+   * Every hand satisfies exactly one of these predicates, but for the suited wheel (A 5 4 3 2 of
+   * a single suit) which is both a flush and a straight flush. Whatever order they run in names a
+   * hand the same, as long as the straight flush is checked before the flush
+   */
   private final Map<HandName, Predicate<Hand>> NAME_DETERMINERS_BY_NAME = Map.of(
     FLUSH, this::isFlush,
     FOUR_OF_A_KIND, this::isFourOfAKind,
@@ -43,6 +51,24 @@ public class HandNameDeterminer {
   );
 
   private static final List<HandName> HAND_NAMES_SORTED_BY_RANK;
+  private static final int SUITED_RANK_BITS = Card.NAMES.length();
+  private static final Set<HandName> ALL_CANDIDATES = EnumSet.allOf(HandName.class);
+  private static final Set<HandName> DISTINCT_NAMES_SAME_SUIT_CANDIDATES = EnumSet.of(
+    FLUSH, STRAIGHT_FLUSH, ROYAL_FLUSH
+  );
+  private static final Set<HandName> DISTINCT_NAMES_MIXED_SUITS_CANDIDATES = EnumSet.of(
+    HIGH_CARD, STRAIGHT
+  );
+  private static final Set<HandName> DISTINCT_NAMES_MIXED_SUITS_WIDE_SPAN_CANDIDATES = EnumSet.of(
+    HIGH_CARD
+  );
+  private static final Set<HandName> FOUR_DISTINCT_NAMES_CANDIDATES = EnumSet.of(ONE_PAIR);
+  private static final Set<HandName> THREE_DISTINCT_NAMES_CANDIDATES = EnumSet.of(
+    TWO_PAIR, THREE_OF_A_KIND
+  );
+  private static final Set<HandName> TWO_DISTINCT_NAMES_CANDIDATES = EnumSet.of(
+    FULL_HOUSE, FOUR_OF_A_KIND
+  );
   private static final String HIGHEST_RANKS_SEQUENCE;
 
   static {
@@ -67,6 +93,102 @@ public class HandNameDeterminer {
     );
   }
 
+  /**
+   * Same as {@link #determineName(Hand)} but runs the predicates in the order the profile gives,
+   * recording in it the name determined and, when timed, how many predicates ran and for how long
+   */
+  public HandName determineName(
+    @NonNull final Hand hand,
+    @NonNull final DeterminationProfile profile
+  ) {
+    final boolean timed = profile.isTimed();
+    final long startNanos = timed ? System.nanoTime() : 0L;
+    int predicatesRun = 0;
+    for (@NonNull final HandName handName : profile.getPredicateOrder()) {
+      ++predicatesRun;
+      if (NAME_DETERMINERS_BY_NAME.get(handName).test(hand)) {
+        profile.record(handName, predicatesRun, timed ? System.nanoTime() - startNanos : 0L);
+        return handName;
+      }
+    }
+    throw new IllegalArgumentException(
+      "Could not determine the name for hand '" + hand + "'"
+    );
+  }
+
+  /**
+   * Same as {@link #determineName(Hand)} but gives up as soon as it is proven that the hand cannot
+   * be named after any of the names accepted by the filter. The number of distinct card names,
+   * whether all the cards share a suit and how far apart their ranks are narrow the possible names
+   * down cheaply, so the full classification only runs for hands that stand a chance of being
+   * accepted
+   *
+   * @return the name of the hand or empty if the hand is rejected by the filter
+   */
+  public Optional<HandName> determineNameIfAccepted(
+    @NonNull final Hand hand,
+    @NonNull final HandNameFilter filter
+  ) {
+    if (!filter.acceptsAll() && !filter.acceptsAnyOf(determineCandidateNames(hand))) {
+      return Optional.empty();
+    }
+    final HandName handName = determineName(hand);
+    return filter.accepts(handName) ? Optional.of(handName) : Optional.empty();
+  }
+
+  /**
+   * Same as {@link #determineNameIfAccepted(Hand, HandNameFilter)} but names the hands through
+   * {@link #determineName(Hand, DeterminationProfile)}. Hands rejected up front are not profiled
+   */
+  public Optional<HandName> determineNameIfAccepted(
+    @NonNull final Hand hand,
+    @NonNull final HandNameFilter filter,
+    @NonNull final DeterminationProfile profile
+  ) {
+    if (!filter.acceptsAll() && !filter.acceptsAnyOf(determineCandidateNames(hand))) {
+      return Optional.empty();
+    }
+    final HandName handName = determineName(hand, profile);
+    return filter.accepts(handName) ? Optional.of(handName) : Optional.empty();
+  }
+
+  /**
+   * Determines the best name five of the cards given can make, for five or seven cards, using the
+   * precomputed {@link EvaluationTables} rather than the predicates
+   */
+  public HandName determineBestName(@NonNull final Card... cards) {
+    if (cards.length != 5 && cards.length != 7) {
+      throw new IllegalArgumentException("Only hands of 5 or 7 cards can be named");
+    }
+    long cardMask = 0L;
+    long rankCounts = 0L;
+    // The ranks of each suit, 13 bits per suit
+    long suitedRankMasks = 0L;
+    for (final Card card : cards) {
+      final int cardIndex = card.getIndex();
+      cardMask |= 1L << cardIndex;
+      rankCounts += FastHandNameEvaluator.rankCount(cardIndex);
+      suitedRankMasks |= 1L << (card.getSuitIndex() * SUITED_RANK_BITS + card.getRank() - 2);
+    }
+    if (Long.bitCount(cardMask) != cards.length) {
+      throw new IllegalArgumentException("One or more Cards where found identical");
+    }
+
+    final EvaluationTables tables = EvaluationTables.shared();
+    HandName bestHandName = tables.rankName(rankCounts, cards.length);
+    for (int suit = 0; suit < Card.SUITS.length(); suit++) {
+      final int suitedRankMask = (int) (suitedRankMasks >>> (suit * SUITED_RANK_BITS))
+        & ((1 << SUITED_RANK_BITS) - 1);
+      if (Integer.bitCount(suitedRankMask) >= 5) {
+        final HandName flushName = tables.flushName(suitedRankMask);
+        if (flushName.getRank() > bestHandName.getRank()) {
+          bestHandName = flushName;
+        }
+      }
+    }
+    return bestHandName;
+  }
+
   public boolean isHighCard(final Hand hand) {
     return handHasXGroupsOfCardsWithSameName(hand, 5, 1) &&
       !handHasAllCardsWithSequentialNames(hand) &&
@@ -140,6 +262,48 @@ public class HandNameDeterminer {
       ));
   }
 
+  /**
+   * Narrows down the names a hand may end up with, using nothing more than a single pass over its
+   * (already sorted by rank) cards
+   */
+  static Set<HandName> determineCandidateNames(@NonNull final Hand hand) {
+    final Card[] cards = hand.getCards();
+    int distinctNames = 1;
+    boolean allCardsOnSameSuit = true;
+    for (int i = 1; i < cards.length; i++) {
+      if (cards[i].getRank() != cards[i - 1].getRank()) {
+        ++distinctNames;
+      }
+      allCardsOnSameSuit &= cards[i].getSuit() == cards[0].getSuit();
+    }
+    switch (distinctNames) {
+      case 5:
+        if (allCardsOnSameSuit) {
+          return DISTINCT_NAMES_SAME_SUIT_CANDIDATES;
+        }
+        return handSpansFiveSequentialRanks(cards)
+          ? DISTINCT_NAMES_MIXED_SUITS_CANDIDATES
+          : DISTINCT_NAMES_MIXED_SUITS_WIDE_SPAN_CANDIDATES;
+      case 4:
+        return FOUR_DISTINCT_NAMES_CANDIDATES;
+      case 3:
+        return THREE_DISTINCT_NAMES_CANDIDATES;
+      case 2:
+        return TWO_DISTINCT_NAMES_CANDIDATES;
+      default:
+        return ALL_CANDIDATES;
+    }
+  }
+
+  /**
+   * Whether five cards of distinct names, sorted by rank, are close enough together to make a
+   * straight: the highest four ranks above the lowest, or an ace heading the 5 4 3 2 of the wheel
+   */
+  private static boolean handSpansFiveSequentialRanks(final Card[] cards) {
+    return cards[0].getRank() - cards[4].getRank() == 4 ||
+      cards[0].getName() == Card.ACE && cards[1].getRank() == 5;
+  }
+
   boolean handHasAllCardsOnSameSuit(@NonNull final Hand hand) {
     return Arrays.stream(hand.getCards())
       .map(Card::getSuit)
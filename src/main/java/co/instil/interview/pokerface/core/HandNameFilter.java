@@ -0,0 +1,75 @@
+package co.instil.interview.pokerface.core;
+
+import static java.util.stream.Collectors.joining;
+
+import co.instil.interview.pokerface.domain.Hand.HandName;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import lombok.NonNull;
+
+/**
+ * The set of {@link HandName}s a caller is interested in. It is handed down to the
+ * {@link HandNameDeterminer} so that hands which cannot possibly end up in one of the accepted
+ * names are rejected before going through the full classification
+ */
+public class HandNameFilter {
+  public static final HandNameFilter ALL = new HandNameFilter(EnumSet.allOf(HandName.class));
+
+  private final Set<HandName> acceptedHandNames;
+
+  private HandNameFilter(final Set<HandName> acceptedHandNames) {
+    this.acceptedHandNames = Collections.unmodifiableSet(acceptedHandNames);
+  }
+
+  /**
+   * Builds a filter out of the (optional) command line arguments. When both are provided a hand
+   * name has to satisfy both of them to be accepted
+   *
+   * @param minHandName the name of the weakest {@link HandName} accepted, e.g. FULL_HOUSE
+   * @param onlyHandNames comma separated {@link HandName}s accepted, e.g. FLUSH,STRAIGHT
+   */
+  public static HandNameFilter of(final String minHandName, final String onlyHandNames) {
+    final EnumSet<HandName> accepted = EnumSet.allOf(HandName.class);
+    if (minHandName != null) {
+      final int minRank = parseHandName(minHandName).getRank();
+      accepted.removeIf(handName -> handName.getRank() < minRank);
+    }
+    if (onlyHandNames != null) {
+      final EnumSet<HandName> only = EnumSet.noneOf(HandName.class);
+      Arrays.stream(onlyHandNames.split(","))
+        .map(HandNameFilter::parseHandName)
+        .forEach(only::add);
+      accepted.retainAll(only);
+    }
+    return new HandNameFilter(accepted);
+  }
+
+  public boolean accepts(@NonNull final HandName handName) {
+    return acceptedHandNames.contains(handName);
+  }
+
+  public boolean acceptsAll() {
+    return acceptedHandNames.size() == HandName.values().length;
+  }
+
+  /**
+   * @return true if at least one of the given candidates is accepted by this filter
+   */
+  public boolean acceptsAnyOf(@NonNull final Set<HandName> candidates) {
+    return !Collections.disjoint(acceptedHandNames, candidates);
+  }
+
+  static HandName parseHandName(@NonNull final String handName) {
+    try {
+      return HandName.valueOf(handName.trim().toUpperCase(Locale.ROOT));
+    } catch (final IllegalArgumentException iae) {
+      throw new IllegalArgumentException(
+        "The input string [" + handName + "] is not a valid hand name. Valid values are "
+          + Arrays.stream(HandName.values()).map(Enum::name).collect(joining(",")), iae
+      );
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package co.instil.interview.pokerface.core;
+
+import static co.instil.interview.pokerface.domain.Hand.HandName.ROYAL_FLUSH;
+
+import co.instil.interview.pokerface.domain.Card;
+import co.instil.interview.pokerface.domain.Combinatorics;
+import co.instil.interview.pokerface.domain.Hand.HandName;
+import co.instil.interview.pokerface.domain.OmahaHand;
+import lombok.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Determines the best name an {@link OmahaHand} can make, using exactly two of its hole cards and
+ * three of its board cards. Instead of building the 60 possible five card hands and running each
+ * through the {@link HandNameDeterminer}, the rank counts, rank masks and suits of the 6 hole
+ * pairs and the 10 board triples are computed once and then combined for every pair/triple
+ */
+@Component
+public class OmahaHandNameDeterminer {
+  private static final int[][] HOLE_PAIRS = Combinatorics.combinations(OmahaHand.HOLE_CARDS, 2);
+  private static final int[][] BOARD_TRIPLES = Combinatorics.combinations(OmahaHand.BOARD_CARDS, 3);
+  private static final int NO_SUIT = -1;
+
+  public HandName determineName(@NonNull final OmahaHand hand) {
+    final Card[] holeCards = hand.getHoleCards();
+    final long[] pairRankCounts = new long[HOLE_PAIRS.length];
+    final int[] pairRankMasks = new int[HOLE_PAIRS.length];
+    final int[] pairSuits = new int[HOLE_PAIRS.length];
+    for (int i = 0; i < HOLE_PAIRS.length; i++) {
+      final int[] pair = HOLE_PAIRS[i];
+      final int first = holeCards[pair[0]].getIndex();
+      final int second = holeCards[pair[1]].getIndex();
+      pairRankCounts[i] = FastHandNameEvaluator.rankCount(first)
+        + FastHandNameEvaluator.rankCount(second);
+      pairRankMasks[i] = FastHandNameEvaluator.rankBit(first)
+        | FastHandNameEvaluator.rankBit(second);
+      pairSuits[i] = commonSuit(holeCards, pair);
+    }
+
+    final Card[] boardCards = hand.getBoardCards();
+    HandName bestHandName = null;
+    for (final int[] triple : BOARD_TRIPLES) {
+      final int first = boardCards[triple[0]].getIndex();
+      final int second = boardCards[triple[1]].getIndex();
+      final int third = boardCards[triple[2]].getIndex();
+      final long tripleRankCounts = FastHandNameEvaluator.rankCount(first)
+        + FastHandNameEvaluator.rankCount(second)
+        + FastHandNameEvaluator.rankCount(third);
+      final int tripleRankMask = FastHandNameEvaluator.rankBit(first)
+        | FastHandNameEvaluator.rankBit(second)
+        | FastHandNameEvaluator.rankBit(third);
+      final int tripleSuit = commonSuit(boardCards, triple);
+
+      for (int i = 0; i < HOLE_PAIRS.length; i++) {
+        final HandName handName = FastHandNameEvaluator.evaluate(
+          pairRankCounts[i] + tripleRankCounts,
+          pairRankMasks[i] | tripleRankMask,
+          tripleSuit != NO_SUIT && pairSuits[i] == tripleSuit
+        );
+        if (bestHandName == null || handName.getRank() > bestHandName.getRank()) {
+          if (handName == ROYAL_FLUSH) {
+            // Nothing beats that
+            return handName;
+          }
+          bestHandName = handName;
+        }
+      }
+    }
+    return bestHandName;
+  }
+
+  private static int commonSuit(final Card[] cards, final int[] indexes) {
+    final char suit = cards[indexes[0]].getSuit();
+    for (int i = 1; i < indexes.length; i++) {
+      if (cards[indexes[i]].getSuit() != suit) {
+        return NO_SUIT;
+      }
+    }
+    return cards[indexes[0]].getSuitIndex();
+  }
+}
@@ -0,0 +1,41 @@
+package co.instil.interview.pokerface.core;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * What a file run should print, on top of the hands themselves
+ */
+@Builder
+@Getter
+public class ProcessingOptions {
+  public static final ProcessingOptions DEFAULT = ProcessingOptions.builder().build();
+
+  @NonNull
+  @Builder.Default
+  private final HandNameFilter filter = HandNameFilter.ALL;
+
+  /**
+   * Whether to print the statistics of each processing stage once the file has been processed
+   */
+  private final boolean printStatistics;
+
+  /**
+   * Whether to print, once the file has been processed, how many predicates it took and how long
+   * to name the hands of each name
+   */
+  private final boolean printProfile;
+
+  /**
+   * Whether to run the predicates naming hands in the order of the names most frequent in the
+   * file so far, rather than from the best name to the worst
+   */
+  private final boolean adaptiveOrdering;
+
+  /**
+   * Whether to name hands by looking them up in the {@link EvaluationTables} rather than running
+   * the predicates. There is nothing to profile nor order then
+   */
+  private final boolean evaluationTables;
+}
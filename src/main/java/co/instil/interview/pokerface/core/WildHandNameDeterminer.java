@@ -0,0 +1,104 @@
+package co.instil.interview.pokerface.core;
+
+import static co.instil.interview.pokerface.domain.Hand.HandName.FLUSH;
+import static co.instil.interview.pokerface.domain.Hand.HandName.FOUR_OF_A_KIND;
+import static co.instil.interview.pokerface.domain.Hand.HandName.FULL_HOUSE;
+import static co.instil.interview.pokerface.domain.Hand.HandName.ONE_PAIR;
+import static co.instil.interview.pokerface.domain.Hand.HandName.ROYAL_FLUSH;
+import static co.instil.interview.pokerface.domain.Hand.HandName.STRAIGHT;
+import static co.instil.interview.pokerface.domain.Hand.HandName.STRAIGHT_FLUSH;
+import static co.instil.interview.pokerface.domain.Hand.HandName.THREE_OF_A_KIND;
+
+import co.instil.interview.pokerface.domain.Card;
+import co.instil.interview.pokerface.domain.Hand.HandName;
+import co.instil.interview.pokerface.domain.WildHand;
+import lombok.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Determines the best name a {@link WildHand} can make, each joker standing for any card not
+ * already in the hand. Rather than trying every card (or pair of cards) in place of the jokers,
+ * the best name is reasoned out of the rank counts of the natural cards, from the strongest name
+ * down:
+ * <ul>
+ *   <li>a straight needs natural cards of distinct ranks, all within the same sequence</li>
+ *   <li>a flush needs natural cards of the same suit</li>
+ *   <li>n of a kind needs n cards of a rank, counting the jokers in</li>
+ *   <li>a full house needs natural cards of two ranks only</li>
+ * </ul>
+ * A joker makes three of a kind out of any pair, so two pair and high card never come out of a
+ * hand with jokers
+ */
+@Component
+public class WildHandNameDeterminer {
+  /**
+   * The straights that may be completed with jokers. The ace high sequence is left out, as it
+   * only counts when suited, i.e. as a royal flush
+   */
+  private static final int STRAIGHT_WINDOWS = EvaluationTables.STRAIGHT_WINDOWS.length - 1;
+
+  public HandName determineName(@NonNull final WildHand hand) {
+    final Card[] naturalCards = hand.getNaturalCards();
+    long rankCounts = 0L;
+    int rankMask = 0;
+    boolean suited = true;
+    for (final Card card : naturalCards) {
+      final int cardIndex = card.getIndex();
+      rankCounts += FastHandNameEvaluator.rankCount(cardIndex);
+      rankMask |= FastHandNameEvaluator.rankBit(cardIndex);
+      suited &= card.getSuit() == naturalCards[0].getSuit();
+    }
+    return evaluate(rankCounts, rankMask, suited, hand.getJokers());
+  }
+
+  /**
+   * @param rankCounts the number of natural cards per rank, 4 bits per rank
+   * @param rankMask the ranks of the natural cards, one bit per rank
+   * @param suited whether all the natural cards share a suit
+   * @param jokers the number of jokers, the natural cards making up the rest of the 5 cards
+   */
+  public static HandName evaluate(
+    final long rankCounts,
+    final int rankMask,
+    final boolean suited,
+    final int jokers
+  ) {
+    if (jokers == 0) {
+      return FastHandNameEvaluator.evaluate(rankCounts, rankMask, suited);
+    }
+    final int distinctRanks = Integer.bitCount(rankMask);
+    final boolean distinct = distinctRanks == WildHand.CARDS - jokers;
+    if (distinct && suited) {
+      if ((rankMask & ~FastHandNameEvaluator.ROYAL_MASK) == 0) {
+        return ROYAL_FLUSH;
+      }
+      if (fitsStraight(rankMask)) {
+        return STRAIGHT_FLUSH;
+      }
+    }
+    final int highestRankCount = FastHandNameEvaluator.highestRankCount(rankCounts);
+    if (highestRankCount + jokers >= 4) {
+      return FOUR_OF_A_KIND;
+    }
+    if (distinctRanks == 2) {
+      return FULL_HOUSE;
+    }
+    // Natural cards of a single suit are always of distinct ranks
+    if (suited) {
+      return FLUSH;
+    }
+    if (distinct && fitsStraight(rankMask)) {
+      return STRAIGHT;
+    }
+    return highestRankCount + jokers >= 3 ? THREE_OF_A_KIND : ONE_PAIR;
+  }
+
+  private static boolean fitsStraight(final int rankMask) {
+    for (int window = 0; window < STRAIGHT_WINDOWS; window++) {
+      if ((rankMask & ~EvaluationTables.STRAIGHT_WINDOWS[window]) == 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
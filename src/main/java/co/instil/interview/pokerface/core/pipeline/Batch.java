@@ -0,0 +1,24 @@
+package co.instil.interview.pokerface.core.pipeline;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A run of consecutive input lines (or what became of them) travelling through the pipeline.
+ * Stages may process batches out of order, the sequence number is what puts them back in order
+ * before they are written out
+ */
+@Getter
+@RequiredArgsConstructor
+public class Batch<T> {
+  private final long sequence;
+  private final long firstLineNumber;
+  @NonNull
+  private final List<T> items;
+
+  public int size() {
+    return items.size();
+  }
+}
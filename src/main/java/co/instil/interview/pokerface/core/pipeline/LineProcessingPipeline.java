@@ -0,0 +1,185 @@
+package co.instil.interview.pokerface.core.pipeline;
+
+import java.io.BufferedReader;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Function;
+import lombok.NonNull;
+
+/**
+ * Processes text input line by line in four stages, connected to each other with bounded
+ * {@link java.util.concurrent.Flow} publishers:
+ * <ol>
+ *   <li>ingest, reading lines and grouping them into batches</li>
+ *   <li>parse, turning each line into a value</li>
+ *   <li>classify, turning each value into the line to be printed (if any)</li>
+ *   <li>write, printing the lines in the order they were read</li>
+ * </ol>
+ * Parsing and classification run on as many threads as configured in the
+ * {@link PipelineSettings}. Lines that fail to parse or classify with an
+ * {@link IllegalArgumentException} are reported in place of their output
+ *
+ * @param <T> the type lines are parsed into
+ */
+public class LineProcessingPipeline<T> {
+  public static final String ERROR_PREFIX = "line: ";
+  public static final String ERROR_SEPARATOR = " - ERROR: ";
+  public static final String ERROR_FORMAT = ERROR_PREFIX + "%d" + ERROR_SEPARATOR + "%s";
+
+  private final PipelineSettings settings;
+  private final Function<String, T> parser;
+  private final Function<T, Optional<String>> classifier;
+
+  public LineProcessingPipeline(
+    @NonNull final PipelineSettings settings,
+    @NonNull final Function<String, T> parser,
+    @NonNull final Function<T, Optional<String>> classifier
+  ) {
+    if (settings.getBatchSize() < 1 || settings.getBufferCapacity() < 1
+      || settings.getParseParallelism() < 1 || settings.getClassifyParallelism() < 1) {
+      throw new IllegalArgumentException("Pipeline settings must all be positive");
+    }
+    this.settings = settings;
+    this.parser = parser;
+    this.classifier = classifier;
+  }
+
+  /**
+   * Runs the input through the pipeline, returning once every line has been written out
+   *
+   * @return the statistics of each stage, in pipeline order
+   */
+  public List<StageStatistics> run(
+    @NonNull final BufferedReader reader,
+    @NonNull final PrintStream out
+  ) throws Exception {
+    final StageStatistics ingestStatistics = new StageStatistics("ingest", 1);
+    final StageStatistics parseStatistics = new StageStatistics(
+      "parse", settings.getParseParallelism()
+    );
+    final StageStatistics classifyStatistics = new StageStatistics(
+      "classify", settings.getClassifyParallelism()
+    );
+    final StageStatistics writeStatistics = new StageStatistics("write", 1);
+
+    final ExecutorService deliveryExecutor = Executors.newCachedThreadPool(
+      PipelineThreads.factory("delivery")
+    );
+    try {
+      final SubmissionPublisher<Batch<String>> ingest = new SubmissionPublisher<>(
+        deliveryExecutor, settings.getBufferCapacity()
+      );
+      final PipelineStage<String, ParsedLine<T>> parse = new PipelineStage<>(
+        parseStatistics, classifyStatistics, this::parseBatch,
+        deliveryExecutor, settings.getBufferCapacity()
+      );
+      final PipelineStage<ParsedLine<T>, String> classify = new PipelineStage<>(
+        classifyStatistics, writeStatistics, this::classifyBatch,
+        deliveryExecutor, settings.getBufferCapacity()
+      );
+      final OrderedWriter write = new OrderedWriter(writeStatistics, out);
+      classify.subscribe(write);
+      parse.subscribe(classify);
+      ingest.subscribe(parse);
+
+      try {
+        ingest(reader, ingest, ingestStatistics, parseStatistics, write);
+        ingest.close();
+      } catch (final Throwable e) {
+        ingest.closeExceptionally(e);
+      }
+
+      try {
+        write.getCompletion().get();
+      } catch (final ExecutionException e) {
+        if (e.getCause() instanceof Exception) {
+          throw (Exception) e.getCause();
+        }
+        throw e;
+      }
+    } finally {
+      deliveryExecutor.shutdown();
+    }
+    return List.of(ingestStatistics, parseStatistics, classifyStatistics, writeStatistics);
+  }
+
+  private void ingest(
+    final BufferedReader reader,
+    final SubmissionPublisher<Batch<String>> ingest,
+    final StageStatistics ingestStatistics,
+    final StageStatistics parseStatistics,
+    final OrderedWriter write
+  ) throws Exception {
+    final int batchSize = settings.getBatchSize();
+    long sequence = 0L;
+    long lineNumber = 0L;
+    boolean endOfInput = false;
+    // Stop reading as soon as something went wrong downstream, there's no one to read for
+    while (!endOfInput && !write.getCompletion().isDone()) {
+      final long startNanos = System.nanoTime();
+      final List<String> lines = new ArrayList<>(batchSize);
+      String line;
+      while (lines.size() < batchSize && (line = reader.readLine()) != null) {
+        lines.add(line);
+      }
+      endOfInput = lines.size() < batchSize;
+      if (!lines.isEmpty()) {
+        ingestStatistics.recordBatch(lines.size(), startNanos, System.nanoTime());
+        ingest.submit(new Batch<>(sequence++, lineNumber + 1, lines));
+        parseStatistics.recordQueueDepth(ingest.estimateMaximumLag());
+        lineNumber += lines.size();
+      }
+    }
+  }
+
+  private Batch<ParsedLine<T>> parseBatch(final Batch<String> batch) {
+    final List<ParsedLine<T>> parsedLines = new ArrayList<>(batch.size());
+    long lineNumber = batch.getFirstLineNumber();
+    for (final String line : batch.getItems()) {
+      try {
+        parsedLines.add(ParsedLine.of(lineNumber, parser.apply(line)));
+      } catch (final IllegalArgumentException iae) {
+        parsedLines.add(ParsedLine.failed(lineNumber, iae.getMessage()));
+      }
+      ++lineNumber;
+    }
+    return new Batch<>(batch.getSequence(), batch.getFirstLineNumber(), parsedLines);
+  }
+
+  private Batch<String> classifyBatch(final Batch<ParsedLine<T>> batch) {
+    final List<String> outputLines = new ArrayList<>(batch.size());
+    for (final ParsedLine<T> parsedLine : batch.getItems()) {
+      if (parsedLine.isFailed()) {
+        outputLines.add(formatError(parsedLine.getLineNumber(), parsedLine.getError()));
+        continue;
+      }
+      try {
+        classifier.apply(parsedLine.getValue()).ifPresent(outputLines::add);
+      } catch (final IllegalArgumentException iae) {
+        outputLines.add(formatError(parsedLine.getLineNumber(), iae.getMessage()));
+      }
+    }
+    return new Batch<>(batch.getSequence(), batch.getFirstLineNumber(), outputLines);
+  }
+
+  private static String formatError(final long lineNumber, final String error) {
+    return String.format(ERROR_FORMAT, lineNumber, error);
+  }
+
+  /**
+   * @return a table with a row of statistics per stage
+   */
+  public static String report(@NonNull final List<StageStatistics> statistics) {
+    final StringBuilder report = new StringBuilder(StageStatistics.header());
+    for (final StageStatistics stageStatistics : statistics) {
+      report.append(System.lineSeparator()).append(stageStatistics);
+    }
+    return report.toString();
+  }
+}
@@ -0,0 +1,80 @@
+package co.instil.interview.pokerface.core.pipeline;
+
+import java.io.PrintStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The last stage of the pipeline. It puts batches back in input order and prints them, one write
+ * per batch. It is single threaded by nature, the delivery thread of the stage upstream being the
+ * only one calling it
+ */
+class OrderedWriter implements Flow.Subscriber<Batch<String>> {
+  @Getter
+  private final StageStatistics statistics;
+  @Getter
+  private final CompletableFuture<Void> completion = new CompletableFuture<>();
+  private final PrintStream out;
+  private final Map<Long, Batch<String>> batchesAhead = new HashMap<>();
+  private final StringBuilder buffer = new StringBuilder();
+  private long nextSequence;
+  private Flow.Subscription upstream;
+
+  OrderedWriter(@NonNull final StageStatistics statistics, @NonNull final PrintStream out) {
+    this.statistics = statistics;
+    this.out = out;
+  }
+
+  @Override
+  public void onSubscribe(final Flow.Subscription subscription) {
+    upstream = subscription;
+    subscription.request(1);
+  }
+
+  @Override
+  public void onNext(final Batch<String> batch) {
+    try {
+      batchesAhead.put(batch.getSequence(), batch);
+      Batch<String> nextBatch;
+      while ((nextBatch = batchesAhead.remove(nextSequence)) != null) {
+        write(nextBatch);
+        ++nextSequence;
+      }
+      upstream.request(1);
+    } catch (final Throwable e) {
+      upstream.cancel();
+      completion.completeExceptionally(e);
+    }
+  }
+
+  @Override
+  public void onError(final Throwable throwable) {
+    completion.completeExceptionally(throwable);
+  }
+
+  @Override
+  public void onComplete() {
+    if (batchesAhead.isEmpty()) {
+      out.flush();
+      completion.complete(null);
+    } else {
+      completion.completeExceptionally(new IllegalStateException(
+        "Batch " + nextSequence + " never made it to the writer"
+      ));
+    }
+  }
+
+  private void write(final Batch<String> batch) {
+    final long startNanos = System.nanoTime();
+    buffer.setLength(0);
+    for (final String line : batch.getItems()) {
+      buffer.append(line).append(System.lineSeparator());
+    }
+    out.print(buffer);
+    statistics.recordBatch(batch.size(), startNanos, System.nanoTime());
+  }
+}
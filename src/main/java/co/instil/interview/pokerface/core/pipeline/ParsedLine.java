@@ -0,0 +1,29 @@
+package co.instil.interview.pokerface.core.pipeline;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The outcome of parsing a single line, which is either a value or the reason it could not be
+ * parsed
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ParsedLine<T> {
+  private final long lineNumber;
+  private final T value;
+  private final String error;
+
+  public static <T> ParsedLine<T> of(final long lineNumber, final T value) {
+    return new ParsedLine<>(lineNumber, value, null);
+  }
+
+  public static <T> ParsedLine<T> failed(final long lineNumber, final String error) {
+    return new ParsedLine<>(lineNumber, null, error);
+  }
+
+  public boolean isFailed() {
+    return error != null;
+  }
+}
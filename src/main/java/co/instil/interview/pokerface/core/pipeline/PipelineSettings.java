@@ -0,0 +1,33 @@
+package co.instil.interview.pokerface.core.pipeline;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Tunables of the {@link LineProcessingPipeline}, bound to the {@code pokerface.pipeline.*}
+ * application properties. Reading and writing are single threaded by nature as both have to
+ * follow the order of the input file, so only parsing and classification can be parallelised
+ */
+@Getter
+@Setter
+public class PipelineSettings {
+  private static final int HALF_THE_CORES = Math.max(
+    1, Runtime.getRuntime().availableProcessors() / 2
+  );
+
+  /**
+   * The number of lines travelling together from one stage to the next. It is shared by all the
+   * stages rather than set per stage: batches are cut once while reading and keep their sequence
+   * number through to the writer, and re-batching in between would only copy lines around
+   */
+  private int batchSize = 1024;
+
+  /**
+   * The number of batches that may wait in front of a stage before the one feeding it blocks
+   */
+  private int bufferCapacity = 16;
+
+  private int parseParallelism = HALF_THE_CORES;
+
+  private int classifyParallelism = HALF_THE_CORES;
+}
@@ -0,0 +1,104 @@
+package co.instil.interview.pokerface.core.pipeline;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * A pipeline stage transforming batches with a fixed number of workers. It never asks upstream
+ * for more batches than it has idle workers, while handing a batch downstream blocks for as long
+ * as the bounded buffer of the next stage is full. This way a slow stage slows down everything
+ * before it instead of piling up batches in memory.
+ * <p>
+ * Batches are published in the order workers finish them, not in the order they came in
+ */
+class PipelineStage<I, O> extends SubmissionPublisher<Batch<O>>
+  implements Flow.Processor<Batch<I>, Batch<O>> {
+  @Getter
+  private final StageStatistics statistics;
+  private final StageStatistics downstreamStatistics;
+  private final Function<Batch<I>, Batch<O>> batchProcessor;
+  private final ExecutorService workers;
+  private final AtomicInteger batchesInFlight = new AtomicInteger();
+  private final AtomicBoolean closed = new AtomicBoolean();
+  private volatile boolean upstreamCompleted;
+  private Flow.Subscription upstream;
+
+  PipelineStage(
+    @NonNull final StageStatistics statistics,
+    @NonNull final StageStatistics downstreamStatistics,
+    @NonNull final Function<Batch<I>, Batch<O>> batchProcessor,
+    @NonNull final Executor deliveryExecutor,
+    final int bufferCapacity
+  ) {
+    super(deliveryExecutor, bufferCapacity);
+    this.statistics = statistics;
+    this.downstreamStatistics = downstreamStatistics;
+    this.batchProcessor = batchProcessor;
+    this.workers = Executors.newFixedThreadPool(
+      statistics.getParallelism(), PipelineThreads.factory(statistics.getName())
+    );
+  }
+
+  @Override
+  public void onSubscribe(final Flow.Subscription subscription) {
+    upstream = subscription;
+    subscription.request(statistics.getParallelism());
+  }
+
+  @Override
+  public void onNext(final Batch<I> batch) {
+    batchesInFlight.incrementAndGet();
+    workers.execute(() -> {
+      try {
+        final long startNanos = System.nanoTime();
+        final Batch<O> processedBatch = batchProcessor.apply(batch);
+        statistics.recordBatch(batch.size(), startNanos, System.nanoTime());
+        submit(processedBatch);
+        downstreamStatistics.recordQueueDepth(estimateMaximumLag());
+        upstream.request(1);
+      } catch (final Throwable e) {
+        upstream.cancel();
+        fail(e);
+      } finally {
+        if (batchesInFlight.decrementAndGet() == 0 && upstreamCompleted) {
+          closeOnce();
+        }
+      }
+    });
+  }
+
+  @Override
+  public void onError(final Throwable throwable) {
+    fail(throwable);
+  }
+
+  @Override
+  public void onComplete() {
+    upstreamCompleted = true;
+    if (batchesInFlight.get() == 0) {
+      closeOnce();
+    }
+  }
+
+  private void closeOnce() {
+    if (closed.compareAndSet(false, true)) {
+      close();
+      workers.shutdown();
+    }
+  }
+
+  private void fail(final Throwable throwable) {
+    if (closed.compareAndSet(false, true)) {
+      closeExceptionally(throwable);
+      workers.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package co.instil.interview.pokerface.core.pipeline;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.NonNull;
+
+public final class PipelineThreads {
+  private PipelineThreads() {
+  }
+
+  /**
+   * @return a factory of daemon threads named after the stage, so that they are easy to spot in
+   *   thread dumps and never keep the shell from exiting
+   */
+  public static ThreadFactory factory(@NonNull final String name) {
+    final AtomicInteger threadNumber = new AtomicInteger();
+    return runnable -> {
+      final Thread thread = new Thread(
+        runnable, "pokerface-" + name + "-" + threadNumber.incrementAndGet()
+      );
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
@@ -0,0 +1,106 @@
+package co.instil.interview.pokerface.core.pipeline;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Counters of a single pipeline stage. They are updated concurrently by the stage's workers and
+ * the stage feeding it, so everything in here is lock free.
+ * <p>
+ * The queue depth is the number of batches waiting for this stage, sampled every time the stage
+ * upstream hands over a batch. A stage whose queue is constantly full is the bottleneck
+ */
+public class StageStatistics {
+  @Getter
+  private final String name;
+  @Getter
+  private final int parallelism;
+  private final LongAdder batches = new LongAdder();
+  private final LongAdder items = new LongAdder();
+  private final LongAdder busyNanos = new LongAdder();
+  private final LongAdder queueDepthSamples = new LongAdder();
+  private final LongAdder queueDepthTotal = new LongAdder();
+  private final LongAccumulator maxQueueDepth = new LongAccumulator(Math::max, 0L);
+  private final AtomicLong firstStartNanos = new AtomicLong(Long.MAX_VALUE);
+  private final LongAccumulator lastEndNanos = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+  public StageStatistics(@NonNull final String name, final int parallelism) {
+    this.name = name;
+    this.parallelism = parallelism;
+  }
+
+  void recordBatch(final int batchItems, final long startNanos, final long endNanos) {
+    batches.increment();
+    items.add(batchItems);
+    busyNanos.add(endNanos - startNanos);
+    firstStartNanos.accumulateAndGet(startNanos, Math::min);
+    lastEndNanos.accumulate(endNanos);
+  }
+
+  void recordQueueDepth(final long queueDepth) {
+    queueDepthSamples.increment();
+    queueDepthTotal.add(queueDepth);
+    maxQueueDepth.accumulate(queueDepth);
+  }
+
+  public long getBatches() {
+    return batches.sum();
+  }
+
+  public long getItems() {
+    return items.sum();
+  }
+
+  public long getMaxQueueDepth() {
+    return maxQueueDepth.get();
+  }
+
+  public double getAverageQueueDepth() {
+    final long samples = queueDepthSamples.sum();
+    return samples == 0 ? 0.0 : (double) queueDepthTotal.sum() / samples;
+  }
+
+  /**
+   * @return the items processed per second, from the moment the stage got its first batch until
+   *   it was done with its last one
+   */
+  public double getThroughput() {
+    final long activeNanos = getActiveNanos();
+    return activeNanos == 0 ? 0.0 : getItems() * (double) TimeUnit.SECONDS.toNanos(1) / activeNanos;
+  }
+
+  /**
+   * @return the share of the stage's active time its workers spent processing batches, as a
+   *   percentage. Workers of an under-utilised stage spend their time waiting for input
+   */
+  public double getUtilisation() {
+    final long activeNanos = getActiveNanos();
+    return activeNanos == 0 ? 0.0 : busyNanos.sum() * 100.0 / ((double) activeNanos * parallelism);
+  }
+
+  private long getActiveNanos() {
+    final long first = firstStartNanos.get();
+    final long last = lastEndNanos.get();
+    return last > first ? last - first : 0L;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+      "%-10s %7d %9d %11d %13.0f %6.1f%% %9.1f %9d",
+      name, parallelism, getBatches(), getItems(), getThroughput(), getUtilisation(),
+      getAverageQueueDepth(), getMaxQueueDepth()
+    );
+  }
+
+  public static String header() {
+    return String.format(
+      "%-10s %7s %9s %11s %13s %7s %9s %9s",
+      "stage", "threads", "batches", "items", "items/s", "busy", "avg queue", "max queue"
+    );
+  }
+}
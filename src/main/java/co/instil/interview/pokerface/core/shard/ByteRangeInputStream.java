@@ -0,0 +1,46 @@
+package co.instil.interview.pokerface.core.shard;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import lombok.NonNull;
+
+/**
+ * Streams the [start, end) byte range of a file, reading with positional reads so that the
+ * channel's own position is left alone
+ */
+public class ByteRangeInputStream extends InputStream {
+  private final FileChannel channel;
+  private final long end;
+  private long position;
+
+  public ByteRangeInputStream(
+    @NonNull final FileChannel channel,
+    final long start,
+    final long end
+  ) {
+    this.channel = channel;
+    this.position = start;
+    this.end = end;
+  }
+
+  @Override
+  public int read() throws IOException {
+    final byte[] singleByte = new byte[1];
+    return read(singleByte, 0, 1) == -1 ? -1 : singleByte[0] & 0xFF;
+  }
+
+  @Override
+  public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+    if (position >= end) {
+      return -1;
+    }
+    final int bytesToRead = (int) Math.min(length, end - position);
+    final int bytesRead = channel.read(ByteBuffer.wrap(bytes, offset, bytesToRead), position);
+    if (bytesRead > 0) {
+      position += bytesRead;
+    }
+    return bytesRead;
+  }
+}
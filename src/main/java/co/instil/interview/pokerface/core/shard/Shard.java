@@ -0,0 +1,23 @@
+package co.instil.interview.pokerface.core.shard;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * A line aligned byte range [start, end) of an input file, processed by a single worker
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor
+public class Shard {
+  private final int index;
+  private final long start;
+  private final long end;
+
+  public long length() {
+    return end - start;
+  }
+}
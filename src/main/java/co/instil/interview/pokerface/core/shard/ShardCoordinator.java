@@ -0,0 +1,275 @@
+package co.instil.interview.pokerface.core.shard;
+
+import co.instil.interview.pokerface.PokerfaceApplication;
+import co.instil.interview.pokerface.core.pipeline.LineProcessingPipeline;
+import co.instil.interview.pokerface.core.pipeline.PipelineSettings;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Processes a single file with several {@link ShardWorker} processes. The file is split into line
+ * aligned {@link Shard}s, one per worker, and all workers are started at once. Their outputs are
+ * then merged in shard order, renumbering the lines errors were reported at, so that the result
+ * is exactly what processing the file in a single process would have printed.
+ * <p>
+ * A worker that exits abnormally or does not report its statistics is started again for the same
+ * shard, up to the maximum attempts given. Workers talk to the coordinator through files only, so
+ * the same contract holds should they run on other hosts sharing the storage.
+ * <p>
+ * The parallelism of the {@link PipelineSettings} is shared out between the workers, so that
+ * all of them together run about as many threads as a single process would
+ */
+@Component
+public class ShardCoordinator {
+  private final PipelineSettings pipelineSettings;
+  private final WorkerLauncher workerLauncher;
+
+  @Autowired
+  public ShardCoordinator(@NonNull final PipelineSettings pipelineSettings) {
+    this(pipelineSettings, ShardCoordinator::launchProcess);
+  }
+
+  ShardCoordinator(
+    @NonNull final PipelineSettings pipelineSettings,
+    @NonNull final WorkerLauncher workerLauncher
+  ) {
+    this.pipelineSettings = pipelineSettings;
+    this.workerLauncher = workerLauncher;
+  }
+
+  public void processFile(@NonNull final Path path, final int workers, final int maxAttempts) {
+    try {
+      final Summary summary = processFile(path, workers, maxAttempts, System.out);
+      System.out.printf(
+        "Processed %d lines (%d errors) with %d workers and %d retries in %d ms%n",
+        summary.getLines(), summary.getErrors(), summary.getShards(), summary.getRetries(),
+        summary.getElapsedMillis()
+      );
+    } catch (final Throwable e) {
+      System.out.println("Failed to process input file: " + e.getMessage());
+    }
+  }
+
+  Summary processFile(
+    final Path path,
+    final int workers,
+    final int maxAttempts,
+    final PrintStream out
+  ) throws Exception {
+    if (workers < 1 || maxAttempts < 1) {
+      throw new IllegalArgumentException("Workers and attempts must be positive");
+    }
+    final long startMillis = System.currentTimeMillis();
+    final List<Shard> shards = ShardPlanner.plan(path, workers);
+    final PipelineSettings workerSettings = workerSettings(pipelineSettings, shards.size());
+    final Path workDirectory = Files.createTempDirectory("pokerface-shards-");
+    final List<CompletableFuture<Integer>> runs = new ArrayList<>(shards.size());
+    try {
+      for (final Shard shard : shards) {
+        runs.add(launch(path, shard, workDirectory, workerSettings));
+      }
+
+      long lines = 0L;
+      long errors = 0L;
+      int retries = 0;
+      for (final Shard shard : shards) {
+        int attempt = 1;
+        while (!succeeded(runs.get(shard.getIndex()), statisticsFile(workDirectory, shard))) {
+          if (attempt == maxAttempts) {
+            throw new IllegalStateException(
+              "Shard " + shard + " failed " + attempt + " times, see "
+                + logFile(workDirectory, shard) + " for the last failure"
+            );
+          }
+          ++attempt;
+          ++retries;
+          System.err.printf(
+            "Shard %d failed, retrying (attempt %d of %d)%n", shard.getIndex(), attempt, maxAttempts
+          );
+          runs.set(shard.getIndex(), launch(path, shard, workDirectory, workerSettings));
+        }
+        errors += merge(outputFile(workDirectory, shard), lines, out);
+        lines += ShardWorker.readLines(statisticsFile(workDirectory, shard));
+      }
+      out.flush();
+      return Summary.builder()
+        .shards(shards.size())
+        .lines(lines)
+        .errors(errors)
+        .retries(retries)
+        .elapsedMillis(System.currentTimeMillis() - startMillis)
+        .build();
+    } finally {
+      runs.forEach(run -> run.cancel(true));
+      deleteRecursively(workDirectory);
+    }
+  }
+
+  /**
+   * The settings of each of the workers, with at least one thread parsing and one classifying
+   */
+  static PipelineSettings workerSettings(final PipelineSettings settings, final int workers) {
+    final PipelineSettings workerSettings = new PipelineSettings();
+    workerSettings.setBatchSize(settings.getBatchSize());
+    workerSettings.setBufferCapacity(settings.getBufferCapacity());
+    workerSettings.setParseParallelism(Math.max(1, settings.getParseParallelism() / workers));
+    workerSettings.setClassifyParallelism(
+      Math.max(1, settings.getClassifyParallelism() / workers)
+    );
+    return workerSettings;
+  }
+
+  private CompletableFuture<Integer> launch(
+    final Path path,
+    final Shard shard,
+    final Path workDirectory,
+    final PipelineSettings workerSettings
+  ) throws IOException {
+    final Path statistics = statisticsFile(workDirectory, shard);
+    Files.deleteIfExists(statistics);
+    return workerLauncher.launch(
+      ShardWorker.arguments(
+        path, shard, outputFile(workDirectory, shard), statistics, workerSettings
+      ),
+      logFile(workDirectory, shard)
+    );
+  }
+
+  private static boolean succeeded(
+    final CompletableFuture<Integer> run,
+    final Path statistics
+  ) throws InterruptedException {
+    try {
+      return run.get() == 0 && Files.exists(statistics);
+    } catch (final ExecutionException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Copies the output of a shard, shifting the line numbers errors were reported at by the lines
+   * of the shards before it
+   *
+   * @return the number of errors found in the output
+   */
+  static long merge(
+    final Path output,
+    final long linesBefore,
+    final PrintStream out
+  ) throws IOException {
+    long errors = 0L;
+    try (final BufferedReader reader = Files.newBufferedReader(output, Charset.defaultCharset())) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.startsWith(LineProcessingPipeline.ERROR_PREFIX)) {
+          ++errors;
+          line = renumber(line, linesBefore);
+        }
+        out.println(line);
+      }
+    }
+    return errors;
+  }
+
+  static String renumber(final String errorLine, final long linesBefore) {
+    final int numberStart = LineProcessingPipeline.ERROR_PREFIX.length();
+    final int numberEnd = errorLine.indexOf(LineProcessingPipeline.ERROR_SEPARATOR, numberStart);
+    final long lineNumber = Long.parseLong(errorLine.substring(numberStart, numberEnd));
+    return LineProcessingPipeline.ERROR_PREFIX + (lineNumber + linesBefore)
+      + errorLine.substring(numberEnd);
+  }
+
+  private static Path outputFile(final Path workDirectory, final Shard shard) {
+    return workDirectory.resolve("shard-" + shard.getIndex() + ".out");
+  }
+
+  private static Path statisticsFile(final Path workDirectory, final Shard shard) {
+    return workDirectory.resolve("shard-" + shard.getIndex() + ".properties");
+  }
+
+  private static Path logFile(final Path workDirectory, final Shard shard) {
+    return workDirectory.resolve("shard-" + shard.getIndex() + ".log");
+  }
+
+  private static void deleteRecursively(final Path directory) {
+    try (final Stream<Path> paths = Files.walk(directory)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    } catch (final IOException e) {
+      System.err.println("Failed to clean up " + directory + ": " + e.getMessage());
+    }
+  }
+
+  /**
+   * Starts a worker process running the same jar, or the same class path when not running from
+   * a jar, with the same JVM
+   */
+  private static CompletableFuture<Integer> launchProcess(
+    final List<String> arguments,
+    final Path log
+  ) throws IOException {
+    final List<String> command = new ArrayList<>();
+    command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+    final String classPath = System.getProperty("java.class.path");
+    if (classPath.endsWith(".jar") && !classPath.contains(System.getProperty("path.separator"))) {
+      command.add("-jar");
+      command.add(classPath);
+    } else {
+      command.add("-cp");
+      command.add(classPath);
+      command.add(PokerfaceApplication.class.getName());
+    }
+    command.add(ShardWorker.COMMAND);
+    command.addAll(arguments);
+
+    final Process process = new ProcessBuilder(command)
+      .redirectErrorStream(true)
+      .redirectOutput(log.toFile())
+      .start();
+    final CompletableFuture<Integer> exitCode = process.onExit().thenApply(Process::exitValue);
+    exitCode.whenComplete((code, e) -> {
+      if (exitCode.isCancelled()) {
+        process.destroyForcibly();
+      }
+    });
+    return exitCode;
+  }
+
+  /**
+   * Starts a worker for a shard
+   */
+  @FunctionalInterface
+  interface WorkerLauncher {
+    /**
+     * @param arguments the arguments of {@link ShardWorker#run(String...)}
+     * @param log where the worker's own output should go
+     * @return the exit code of the worker once it's done. Cancelling it stops the worker
+     */
+    CompletableFuture<Integer> launch(List<String> arguments, Path log) throws IOException;
+  }
+
+  @Builder
+  @Getter
+  static class Summary {
+    private final int shards;
+    private final long lines;
+    private final long errors;
+    private final int retries;
+    private final long elapsedMillis;
+  }
+}
@@ -0,0 +1,70 @@
+package co.instil.interview.pokerface.core.shard;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.NonNull;
+
+/**
+ * Splits a file into roughly equally sized, line aligned byte ranges. Only a few bytes around each
+ * split point are read, however big the file is
+ */
+public final class ShardPlanner {
+  private static final byte NEW_LINE = '\n';
+  private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+
+  private ShardPlanner() {
+  }
+
+  /**
+   * @return at most the requested number of shards, covering the whole file. Fewer shards are
+   *   returned if the file has fewer lines than shards requested
+   */
+  public static List<Shard> plan(@NonNull final Path path, final int shards) throws IOException {
+    if (shards < 1) {
+      throw new IllegalArgumentException("The number of shards must be positive");
+    }
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final long size = channel.size();
+      final List<Shard> plan = new ArrayList<>(shards);
+      long start = 0L;
+      for (int i = 1; i <= shards && start < size; i++) {
+        final long end = i == shards
+          ? size
+          : nextLineStart(channel, Math.max(start, size * i / shards));
+        if (end > start) {
+          plan.add(new Shard(plan.size(), start, end));
+          start = end;
+        }
+      }
+      return plan;
+    }
+  }
+
+  /**
+   * @return the position of the first line starting at or after the given position, or the size
+   *   of the file if there's none
+   */
+  static long nextLineStart(final FileChannel channel, final long position) throws IOException {
+    if (position == 0L) {
+      return 0L;
+    }
+    final ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+    // A line starts at the position given if the byte right before it ends a line
+    long scanPosition = position - 1;
+    int bytesRead;
+    while ((bytesRead = channel.read(buffer.clear(), scanPosition)) > 0) {
+      for (int i = 0; i < bytesRead; i++) {
+        if (buffer.get(i) == NEW_LINE) {
+          return scanPosition + i + 1;
+        }
+      }
+      scanPosition += bytesRead;
+    }
+    return channel.size();
+  }
+}
@@ -0,0 +1,137 @@
+package co.instil.interview.pokerface.core.shard;
+
+import co.instil.interview.pokerface.core.HandFileProcessor;
+import co.instil.interview.pokerface.core.HandNameDeterminer;
+import co.instil.interview.pokerface.core.OmahaHandNameDeterminer;
+import co.instil.interview.pokerface.core.WildHandNameDeterminer;
+import co.instil.interview.pokerface.core.pipeline.PipelineSettings;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Properties;
+import lombok.NonNull;
+
+/**
+ * The worker side of sharded processing. It runs in a process of its own, started by the
+ * {@link ShardCoordinator} with the same jar, and processes a single {@link Shard} of the input
+ * with the {@link HandFileProcessor}. There's no Spring context nor shell involved, the worker is
+ * meant to start fast and exit as soon as it's done.
+ * <p>
+ * The output goes to a file of its own, with line numbers of errors relative to the shard. Once
+ * done, the number of lines processed is written to a statistics file, whose presence tells the
+ * coordinator the shard was processed in full.
+ * <p>
+ * The pipeline settings come on the command line too, as workers have no application properties
+ * to read and have to share the cores with each other
+ */
+public final class ShardWorker {
+  public static final String COMMAND = "shard-worker";
+  static final String LINES_PROPERTY = "lines";
+
+  private ShardWorker() {
+  }
+
+  /**
+   * @return the exit code of the worker process
+   */
+  public static int run(@NonNull final String... args) {
+    if (args.length != 9) {
+      System.err.println(
+        "Usage: " + COMMAND + " <input file> <start> <end> <output file> <statistics file>"
+          + " <batch size> <buffer capacity> <parse parallelism> <classify parallelism>"
+      );
+      return 2;
+    }
+    try {
+      final Path input = Paths.get(args[0]);
+      final long start = Long.parseLong(args[1]);
+      final long end = Long.parseLong(args[2]);
+      final Path output = Paths.get(args[3]);
+      final Path statistics = Paths.get(args[4]);
+      final PipelineSettings pipelineSettings = new PipelineSettings();
+      pipelineSettings.setBatchSize(Integer.parseInt(args[5]));
+      pipelineSettings.setBufferCapacity(Integer.parseInt(args[6]));
+      pipelineSettings.setParseParallelism(Integer.parseInt(args[7]));
+      pipelineSettings.setClassifyParallelism(Integer.parseInt(args[8]));
+
+      final HandFileProcessor handFileProcessor = new HandFileProcessor(
+        new HandNameDeterminer(),
+        new OmahaHandNameDeterminer(),
+        new WildHandNameDeterminer(),
+        pipelineSettings
+      );
+      final long lines;
+      try (
+        final FileChannel channel = FileChannel.open(input, StandardOpenOption.READ);
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(
+          new ByteRangeInputStream(channel, start, end), Charset.defaultCharset()
+        ));
+        final PrintStream out = new PrintStream(
+          new BufferedOutputStream(Files.newOutputStream(output)), false, Charset.defaultCharset()
+        )
+      ) {
+        lines = handFileProcessor.processHands(reader, out);
+        out.flush();
+        if (out.checkError()) {
+          throw new IOException("Failed to write the output to " + output);
+        }
+      }
+      writeStatistics(statistics, lines);
+      return 0;
+    } catch (final Throwable e) {
+      e.printStackTrace();
+      return 1;
+    }
+  }
+
+  static List<String> arguments(
+    final Path input,
+    final Shard shard,
+    final Path output,
+    final Path statistics,
+    final PipelineSettings pipelineSettings
+  ) {
+    return List.of(
+      input.toAbsolutePath().toString(),
+      Long.toString(shard.getStart()),
+      Long.toString(shard.getEnd()),
+      output.toAbsolutePath().toString(),
+      statistics.toAbsolutePath().toString(),
+      Integer.toString(pipelineSettings.getBatchSize()),
+      Integer.toString(pipelineSettings.getBufferCapacity()),
+      Integer.toString(pipelineSettings.getParseParallelism()),
+      Integer.toString(pipelineSettings.getClassifyParallelism())
+    );
+  }
+
+  static long readLines(final Path statistics) throws IOException {
+    final Properties properties = new Properties();
+    try (final InputStream in = Files.newInputStream(statistics)) {
+      properties.load(in);
+    }
+    return Long.parseLong(properties.getProperty(LINES_PROPERTY));
+  }
+
+  private static void writeStatistics(final Path statistics, final long lines) throws IOException {
+    final Properties properties = new Properties();
+    properties.setProperty(LINES_PROPERTY, Long.toString(lines));
+    // Written aside and moved in place, so that a half written file is never mistaken for success
+    final Path partialStatistics = statistics.resolveSibling(statistics.getFileName() + ".part");
+    try (final OutputStream out = Files.newOutputStream(partialStatistics)) {
+      properties.store(out, null);
+    }
+    Files.move(partialStatistics, statistics, StandardCopyOption.ATOMIC_MOVE);
+  }
+}
@@ -1,5 +1,6 @@
 package co.instil.interview.pokerface.domain;
 
+import java.util.Arrays;
 import java.util.regex.Pattern;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -12,8 +13,15 @@ import lombok.NonNull;
 public class Card implements Comparable<Card> {
   public static final char ACE = 'A';
   public static final String NAMES = "23456789TJQK" + ACE;
+  public static final String SUITS = "HDSC";
+  public static final int DECK_SIZE = NAMES.length() * SUITS.length();
+  /**
+   * A wild card, standing for any card not already in the hand. It is only accepted by the hands
+   * of the variants playing with jokers, e.g. {@link WildHand}
+   */
+  public static final String JOKER = "JK";
   static final Pattern CARD_PATTERN = Pattern.compile(
-    "[" + NAMES + "][HDSC]"
+    "[" + NAMES + "][" + SUITS + "]"
   );
 
   private final char name;
@@ -35,6 +43,57 @@ public class Card implements Comparable<Card> {
     throw new IllegalArgumentException("The input string [" + cardString + "] is not a valid Card");
   }
 
+  public static boolean isJoker(@NonNull final String cardString) {
+    return JOKER.equalsIgnoreCase(cardString);
+  }
+
+  /**
+   * Parses a whitespace separated list of distinct cards, of any length
+   */
+  public static Card[] parseCards(@NonNull final String cardsString) {
+    final String trimmedCardsString = cardsString.trim();
+    if (trimmedCardsString.isEmpty()) {
+      return new Card[0];
+    }
+    final Card[] cards = Arrays.stream(trimmedCardsString.split("\\s+"))
+      .map(Card::parse)
+      .toArray(Card[]::new);
+    if (Arrays.stream(cards).distinct().count() != cards.length) {
+      throw new IllegalArgumentException(
+        "One or more Cards where found identical in [" + cardsString + "]"
+      );
+    }
+    return cards;
+  }
+
+  /**
+   * Builds the Card identified by the given index, the reverse of {@link #getIndex()}
+   */
+  public static Card ofIndex(final int index) {
+    if (index < 0 || index >= DECK_SIZE) {
+      throw new IllegalArgumentException("The index [" + index + "] is not a valid Card index");
+    }
+    final int rankIndex = index / SUITS.length();
+    return Card.builder()
+      .name(NAMES.charAt(rankIndex))
+      .rank(rankIndex + 2)
+      .suit(SUITS.charAt(index % SUITS.length()))
+      .build();
+  }
+
+  /**
+   * A dense representation of the card within a deck, in [0, {@value #DECK_SIZE}). Cards are
+   * grouped by rank, so that index / 4 + 2 is the card's rank and index % 4 its suit's position
+   * in {@link #SUITS}
+   */
+  public int getIndex() {
+    return (rank - 2) * SUITS.length() + getSuitIndex();
+  }
+
+  public int getSuitIndex() {
+    return SUITS.indexOf(suit);
+  }
+
   @Override
   public int compareTo(final Card otherCard) {
     return Integer.compare(this.getRank(), otherCard.getRank());
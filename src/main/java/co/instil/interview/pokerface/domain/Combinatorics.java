@@ -0,0 +1,51 @@
+package co.instil.interview.pokerface.domain;
+
+/**
+ * Binomial coefficients and combinations, shared by everything that indexes or enumerates sets
+ * of cards or ranks
+ */
+public final class Combinatorics {
+  private Combinatorics() {
+  }
+
+  /**
+   * @return the binomial coefficients C(i, j) for i in [0, n] and j in [0, k], as
+   *   {@code binomials[i][j]}. C(i, j) is 0 whenever j > i
+   */
+  public static int[][] binomials(final int n, final int k) {
+    final int[][] binomials = new int[n + 1][k + 1];
+    for (int i = 0; i <= n; i++) {
+      binomials[i][0] = 1;
+      for (int j = 1; j <= Math.min(i, k); j++) {
+        binomials[i][j] = binomials[i - 1][j - 1] + binomials[i - 1][j];
+      }
+    }
+    return binomials;
+  }
+
+  /**
+   * @return all the k sized combinations of the indexes in [0, n), in lexicographical order
+   */
+  public static int[][] combinations(final int n, final int k) {
+    final int[][] combinations = new int[binomials(n, k)[n][k]][];
+    final int[] combination = new int[k];
+    for (int i = 0; i < k; i++) {
+      combination[i] = i;
+    }
+    for (int c = 0; c < combinations.length; c++) {
+      combinations[c] = combination.clone();
+      // Advance to the next combination by bumping the rightmost index that has room to move
+      int i = k - 1;
+      while (i >= 0 && combination[i] == n - k + i) {
+        i--;
+      }
+      if (i >= 0) {
+        combination[i]++;
+        for (int j = i + 1; j < k; j++) {
+          combination[j] = combination[j - 1] + 1;
+        }
+      }
+    }
+    return combinations;
+  }
+}
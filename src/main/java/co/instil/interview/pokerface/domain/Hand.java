@@ -12,6 +12,17 @@ import lombok.RequiredArgsConstructor;
 @Builder
 @Getter
 public class Hand {
+  public static final int CARDS = 5;
+  /**
+   * The number of distinct hands, i.e. the number of ways to pick 5 cards out of the deck
+   */
+  public static final int COMBINATIONS = 2_598_960;
+  /**
+   * The number of distinct hands once hands that only differ by their suits are counted as one
+   */
+  public static final int CANONICAL_CLASSES = 134_459;
+  private static final int[][] BINOMIALS = Combinatorics.binomials(Card.DECK_SIZE, CARDS);
+
   private final Card[] cards;
 
   public static Hand parse(@NonNull final String handString) {
@@ -40,6 +51,97 @@ public class Hand {
     );
   }
 
+  /**
+   * A dense representation of the hand among all hands, in [0, {@value #COMBINATIONS}). It only
+   * depends on the cards, not on their order: the card indexes, in ascending order, are ranked with
+   * the combinatorial number system
+   */
+  public int getIndex() {
+    return index(getCardMask());
+  }
+
+  /**
+   * The representative of the hand's suit isomorphism class. Hands that only differ by a
+   * relabelling of the suits, e.g. {@code AS KS QS JS TS} and {@code AH KH QH JH TH}, are worth
+   * the same and share the representative. Its suits are relabelled so that the ranks of each suit
+   * come in a fixed order, see {@link SuitIsomorphism}
+   */
+  public Hand canonical() {
+    return ofIndex(SuitIsomorphism.canonicalCardIndex(getCardMask()));
+  }
+
+  /**
+   * A dense representation of the hand's suit isomorphism class among all classes, in
+   * [0, {@value #CANONICAL_CLASSES}). Results that do not depend on suits can be stored and
+   * cached per class rather than per hand, which takes about 20 times less room
+   */
+  public int getCanonicalIndex() {
+    return SuitIsomorphism.classIndex(SuitIsomorphism.canonicalCardIndex(getCardMask()));
+  }
+
+  /**
+   * Builds the representative of the class identified by the given index, the reverse of
+   * {@link #getCanonicalIndex()}
+   */
+  public static Hand ofCanonicalIndex(final int canonicalIndex) {
+    if (canonicalIndex < 0 || canonicalIndex >= CANONICAL_CLASSES) {
+      throw new IllegalArgumentException(
+        "The index [" + canonicalIndex + "] is not a valid canonical Hand index"
+      );
+    }
+    return ofIndex(SuitIsomorphism.representative(canonicalIndex));
+  }
+
+  /**
+   * @return the card indexes of the hand as bits of a long
+   */
+  private long getCardMask() {
+    long cardMask = 0L;
+    for (final Card card : cards) {
+      cardMask |= 1L << card.getIndex();
+    }
+    if (Long.bitCount(cardMask) != CARDS) {
+      throw new IllegalStateException("Only hands of " + CARDS + " distinct Cards have an index");
+    }
+    return cardMask;
+  }
+
+  /**
+   * @param cardMask the card indexes of 5 cards as bits of a long
+   */
+  static int index(final long cardMask) {
+    long remainingCards = cardMask;
+    int index = 0;
+    for (int position = 1; remainingCards != 0; position++) {
+      index += BINOMIALS[Long.numberOfTrailingZeros(remainingCards)][position];
+      remainingCards &= remainingCards - 1;
+    }
+    return index;
+  }
+
+  /**
+   * Builds the Hand identified by the given index, the reverse of {@link #getIndex()}. Its cards
+   * are sorted from the highest to the lowest index
+   */
+  public static Hand ofIndex(final int index) {
+    if (index < 0 || index >= COMBINATIONS) {
+      throw new IllegalArgumentException("The index [" + index + "] is not a valid Hand index");
+    }
+    final Card[] cards = new Card[CARDS];
+    int remainder = index;
+    int cardIndex = Card.DECK_SIZE;
+    for (int position = CARDS; position > 0; position--) {
+      do {
+        --cardIndex;
+      } while (BINOMIALS[cardIndex][position] > remainder);
+      remainder -= BINOMIALS[cardIndex][position];
+      cards[CARDS - position] = Card.ofIndex(cardIndex);
+    }
+    return Hand.builder()
+      .cards(cards)
+      .build();
+  }
+
   public String toString() {
     return String.join(" ", Arrays.stream(cards).map(Card::toString).toArray(String[]::new));
   }
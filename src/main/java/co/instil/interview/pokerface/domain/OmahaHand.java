@@ -0,0 +1,78 @@
+package co.instil.interview.pokerface.domain;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * An Omaha hand, i.e. four hole cards and five board cards. The input string is expected to have
+ * the hole cards first, separated from the board cards with a '|', e.g.
+ * {@code AH KH 7D 2C | QH JH TH 3S 3D}
+ */
+@Builder
+@Getter
+public class OmahaHand {
+  public static final int HOLE_CARDS = 4;
+  public static final int BOARD_CARDS = 5;
+  public static final char SEPARATOR = '|';
+
+  private final Card[] holeCards;
+  private final Card[] boardCards;
+
+  public static OmahaHand parse(@NonNull final String handString) {
+    final int separatorIndex = handString.indexOf(SEPARATOR);
+    Throwable cause = null;
+    if (separatorIndex >= 0 && separatorIndex == handString.lastIndexOf(SEPARATOR)) {
+      try {
+        final Set<Card> theseCards = new HashSet<>();
+        final Card[] holeCards = parseCards(
+          handString.substring(0, separatorIndex), HOLE_CARDS, theseCards
+        );
+        final Card[] boardCards = parseCards(
+          handString.substring(separatorIndex + 1), BOARD_CARDS, theseCards
+        );
+        return OmahaHand.builder()
+          .holeCards(holeCards)
+          .boardCards(boardCards)
+          .build();
+      } catch (final Throwable thisCause) {
+        cause = thisCause;
+      }
+    }
+    throw new IllegalArgumentException(
+      "The input string [" + handString + "] is not a valid Omaha Hand", cause
+    );
+  }
+
+  private static Card[] parseCards(
+    final String cardsString,
+    final int expectedCards,
+    final Set<Card> cardsSoFar
+  ) {
+    final String[] cardStrings = cardsString.trim().split("\\s+");
+    if (cardStrings.length != expectedCards) {
+      throw new IllegalStateException(
+        "Expected " + expectedCards + " Cards but found " + cardStrings.length
+      );
+    }
+    final Card[] cards = new Card[expectedCards];
+    for (int i = 0; i < cardStrings.length; i++) {
+      cards[i] = Card.parse(cardStrings[i]);
+      if (!cardsSoFar.add(cards[i])) {
+        throw new IllegalStateException("One or more Cards where found identical");
+      }
+    }
+    Arrays.sort(cards, Comparator.reverseOrder());
+    return cards;
+  }
+
+  public String toString() {
+    return String.join(" ", Arrays.stream(holeCards).map(Card::toString).toArray(String[]::new))
+      + " " + SEPARATOR + " "
+      + String.join(" ", Arrays.stream(boardCards).map(Card::toString).toArray(String[]::new));
+  }
+}
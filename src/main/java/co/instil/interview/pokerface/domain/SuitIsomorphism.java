@@ -0,0 +1,122 @@
+package co.instil.interview.pokerface.domain;
+
+import java.util.Arrays;
+
+/**
+ * Maps hands to their suit isomorphism class. Relabelling suits only permutes the ranks held in
+ * each suit, so two hands are isomorphic if and only if they hold the same ranks in the same
+ * number of suits. A hand is therefore canonical when the rank masks of its suits, in
+ * {@link Card#SUITS} order, are in descending order, and canonicalising a hand comes down to
+ * sorting its 4 rank masks.
+ * <p>
+ * The classes are numbered in the {@link Hand#getIndex()} order of their representatives, which
+ * are found by walking every hand once, on first use. Only the representatives are kept, so the
+ * table takes about 525 KB
+ */
+final class SuitIsomorphism {
+  private static final int RANKS = Card.NAMES.length();
+  private static final int SUITS = Card.SUITS.length();
+
+  private SuitIsomorphism() {
+  }
+
+  /**
+   * @param cardMask the card indexes of the hand as bits of a long
+   * @return the {@link Hand#getIndex()} of the representative of the hand's class
+   */
+  static int canonicalCardIndex(final long cardMask) {
+    final int[] suitRankMasks = suitRankMasks(cardMask);
+    Arrays.sort(suitRankMasks);
+    long canonicalCardMask = 0L;
+    for (int suit = 0; suit < SUITS; suit++) {
+      // Sorted in ascending order, so read backwards
+      canonicalCardMask |= cardMask(suitRankMasks[SUITS - 1 - suit], suit);
+    }
+    return Hand.index(canonicalCardMask);
+  }
+
+  /**
+   * @param canonicalCardIndex the {@link Hand#getIndex()} of a class representative
+   */
+  static int classIndex(final int canonicalCardIndex) {
+    final int classIndex = Arrays.binarySearch(Holder.REPRESENTATIVES, canonicalCardIndex);
+    if (classIndex < 0) {
+      throw new IllegalArgumentException(
+        "The index [" + canonicalCardIndex + "] is not the index of a canonical Hand"
+      );
+    }
+    return classIndex;
+  }
+
+  /**
+   * @return the {@link Hand#getIndex()} of the representative of the class
+   */
+  static int representative(final int classIndex) {
+    return Holder.REPRESENTATIVES[classIndex];
+  }
+
+  private static boolean isCanonical(final long cardMask) {
+    final int[] suitRankMasks = suitRankMasks(cardMask);
+    for (int suit = 1; suit < SUITS; suit++) {
+      if (suitRankMasks[suit] > suitRankMasks[suit - 1]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int[] suitRankMasks(final long cardMask) {
+    final int[] suitRankMasks = new int[SUITS];
+    for (int rank = 0; rank < RANKS; rank++) {
+      for (int suit = 0; suit < SUITS; suit++) {
+        if ((cardMask & 1L << (rank * SUITS + suit)) != 0) {
+          suitRankMasks[suit] |= 1 << rank;
+        }
+      }
+    }
+    return suitRankMasks;
+  }
+
+  private static long cardMask(final int rankMask, final int suit) {
+    long cardMask = 0L;
+    for (int rank = 0; rank < RANKS; rank++) {
+      if ((rankMask & 1 << rank) != 0) {
+        cardMask |= 1L << (rank * SUITS + suit);
+      }
+    }
+    return cardMask;
+  }
+
+  /**
+   * Walks every hand in ascending {@link Hand#getIndex()} order, i.e. in colexicographic order of
+   * their cards, keeping the canonical ones
+   */
+  private static int[] representatives() {
+    final int[] representatives = new int[Hand.CANONICAL_CLASSES];
+    int classes = 0;
+    int index = 0;
+    for (int fifth = 4; fifth < Card.DECK_SIZE; fifth++) {
+      for (int fourth = 3; fourth < fifth; fourth++) {
+        for (int third = 2; third < fourth; third++) {
+          for (int second = 1; second < third; second++) {
+            for (int first = 0; first < second; first++, index++) {
+              final long cardMask = 1L << first | 1L << second | 1L << third | 1L << fourth
+                | 1L << fifth;
+              if (isCanonical(cardMask)) {
+                representatives[classes++] = index;
+              }
+            }
+          }
+        }
+      }
+    }
+    if (classes != representatives.length) {
+      throw new IllegalStateException("Found " + classes + " suit isomorphism classes");
+    }
+    return representatives;
+  }
+
+  private static class Holder {
+    private static final int[] REPRESENTATIVES = representatives();
+  }
+}
@@ -0,0 +1,64 @@
+package co.instil.interview.pokerface.domain;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * A five card hand which may hold up to {@value #MAX_JOKERS} jokers, written {@value Card#JOKER},
+ * e.g. {@code AH JK KH QH JK}. The jokers are kept apart from the natural cards, as a count
+ */
+@Builder
+@Getter
+public class WildHand {
+  public static final int CARDS = 5;
+  public static final int MAX_JOKERS = 2;
+
+  private final Card[] naturalCards;
+  private final int jokers;
+
+  public static WildHand parse(@NonNull final String handString) {
+    final String[] cardStrings = handString.trim().split("\\s+");
+    Throwable cause = null;
+    if (cardStrings.length == CARDS) {
+      try {
+        final Set<Card> theseCards = new HashSet<>();
+        int jokers = 0;
+        for (final String cardString : cardStrings) {
+          if (Card.isJoker(cardString)) {
+            ++jokers;
+          } else if (!theseCards.add(Card.parse(cardString))) {
+            throw new IllegalStateException("One or more Cards where found identical");
+          }
+        }
+        if (jokers > MAX_JOKERS) {
+          throw new IllegalStateException("A hand holds at most " + MAX_JOKERS + " jokers");
+        }
+        final Card[] naturalCards = theseCards.toArray(new Card[0]);
+        Arrays.sort(naturalCards, Comparator.reverseOrder());
+        return WildHand.builder()
+          .naturalCards(naturalCards)
+          .jokers(jokers)
+          .build();
+      } catch (final Throwable thisCause) {
+        cause = thisCause;
+      }
+    }
+    throw new IllegalArgumentException(
+      "The input string [" + handString + "] is not a valid Wild Hand", cause
+    );
+  }
+
+  public String toString() {
+    return String.join(" ", Stream.concat(
+      Arrays.stream(naturalCards).map(Card::toString),
+      Collections.nCopies(jokers, Card.JOKER).stream()
+    ).toArray(String[]::new));
+  }
+}
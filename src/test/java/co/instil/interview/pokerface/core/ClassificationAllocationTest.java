@@ -0,0 +1,160 @@
+package co.instil.interview.pokerface.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import co.instil.interview.pokerface.domain.Card;
+import co.instil.interview.pokerface.domain.Hand;
+import co.instil.interview.pokerface.domain.Hand.HandName;
+import co.instil.interview.pokerface.domain.HandFixtures;
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.ToLongFunction;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Guards the steady state of the classification hot path against allocation regressions. Each
+ * test warms the path up, then measures the bytes the current thread allocates while running a
+ * million hands through it and fails if they add up to more than the budget committed below
+ * allows for that many hands. The class runs with the rest of the tests, so a regression fails the
+ * build
+ * <p>
+ * If a change legitimately moves the numbers, run this class and update the budget along with the
+ * change, noting the bytes per hand the failing assertion reports
+ */
+class ClassificationAllocationTest {
+  /**
+   * Hand.parse, HandNameDeterminer.determineName and HandFileProcessor.formatLine together.
+   * Measured at 10,812 bytes per hand on JDK 17, most of it spent by the streams the predicates
+   * group and collect cards with
+   */
+  private static final long PARSE_DETERMINE_AND_FORMAT_BUDGET = 11_000L;
+
+  /**
+   * FastHandNameEvaluator works on primitives only and should never allocate
+   */
+  private static final long FAST_EVALUATION_BUDGET = 0L;
+
+  /**
+   * WildHandNameDeterminer.evaluate reasons on primitives too and should never allocate
+   */
+  private static final long WILD_EVALUATION_BUDGET = 0L;
+
+  private static final int DISTINCT_HANDS = 4_096;
+  private static final int WARM_UP_HANDS = 200_000;
+  private static final int MEASURED_HANDS = 1_000_000;
+
+  private static ThreadMXBean threadMXBean;
+  private static String[] handStrings;
+
+  private final HandNameDeterminer determiner = new HandNameDeterminer();
+
+  @BeforeAll
+  static void setUp() {
+    assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean,
+      "Per thread allocation accounting is not available on this JVM");
+    threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(),
+      "Per thread allocation accounting is not supported on this JVM");
+    threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+    // Random deals, which makes for mostly high card and one pair hands just like real input
+    final SplittableRandom random = HandFixtures.random();
+    handStrings = new String[DISTINCT_HANDS];
+    for (int i = 0; i < handStrings.length; i++) {
+      handStrings[i] = HandFixtures.dealHandString(random);
+    }
+  }
+
+  @Test
+  void parsingDeterminingTheNameAndFormattingShouldStayWithinBudget() {
+    final long bytes = measureBytes(handString -> {
+      final Hand hand = Hand.parse(handString);
+      final HandName handName = determiner.determineName(hand);
+      return HandFileProcessor.formatLine(hand, handName).length();
+    });
+
+    assertWithinBudget(bytes, PARSE_DETERMINE_AND_FORMAT_BUDGET, "parsed, named and formatted");
+  }
+
+  @Test
+  void fastEvaluationShouldStayWithinBudget() {
+    final Card[][] hands = Arrays.stream(handStrings)
+      .map(handString -> Hand.parse(handString).getCards())
+      .toArray(Card[][]::new);
+    final int[] next = new int[1];
+
+    final long bytes = measureBytes(handString -> {
+      next[0] = (next[0] + 1) % hands.length;
+      return FastHandNameEvaluator.evaluate(hands[next[0]]).getRank();
+    });
+
+    assertWithinBudget(bytes, FAST_EVALUATION_BUDGET, "named by the FastHandNameEvaluator");
+  }
+
+  @Test
+  void wildEvaluationShouldStayWithinBudget() {
+    // The first one or two cards of each hand stand for jokers
+    final long[] rankCounts = new long[handStrings.length];
+    final int[] rankMasks = new int[handStrings.length];
+    final boolean[] suited = new boolean[handStrings.length];
+    for (int i = 0; i < handStrings.length; i++) {
+      final Card[] cards = Hand.parse(handStrings[i]).getCards();
+      final int firstNaturalCard = jokers(i);
+      suited[i] = true;
+      for (int card = firstNaturalCard; card < cards.length; card++) {
+        rankCounts[i] += FastHandNameEvaluator.rankCount(cards[card].getIndex());
+        rankMasks[i] |= FastHandNameEvaluator.rankBit(cards[card].getIndex());
+        suited[i] &= cards[card].getSuit() == cards[firstNaturalCard].getSuit();
+      }
+    }
+    final int[] next = new int[1];
+
+    final long bytes = measureBytes(handString -> {
+      final int i = next[0] = (next[0] + 1) % handStrings.length;
+      return WildHandNameDeterminer.evaluate(rankCounts[i], rankMasks[i], suited[i], jokers(i))
+        .getRank();
+    });
+
+    assertWithinBudget(bytes, WILD_EVALUATION_BUDGET, "named by the WildHandNameDeterminer");
+  }
+
+  private static int jokers(final int hand) {
+    return 1 + hand % 2;
+  }
+
+  private static void assertWithinBudget(
+    final long bytes,
+    final long budgetPerHand,
+    final String path
+  ) {
+    assertThat(bytes)
+      .as("Bytes allocated by %,d hands %s, measured %,.1f per hand against a budget of %,d",
+        MEASURED_HANDS, path, (double) bytes / MEASURED_HANDS, budgetPerHand)
+      .isLessThanOrEqualTo(budgetPerHand * MEASURED_HANDS);
+  }
+
+  private static long measureBytes(final ToLongFunction<String> hotPath) {
+    final long threadId = Thread.currentThread().getId();
+    long checksum = run(hotPath, WARM_UP_HANDS);
+
+    final long bytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+    checksum += run(hotPath, MEASURED_HANDS);
+    final long bytesAfter = threadMXBean.getThreadAllocatedBytes(threadId);
+
+    // Keeps the JIT from optimising the hot path away
+    assertThat(checksum).isPositive();
+    return bytesAfter - bytesBefore;
+  }
+
+  private static long run(final ToLongFunction<String> hotPath, final int hands) {
+    long checksum = 0L;
+    for (int i = 0; i < hands; i++) {
+      checksum += hotPath.applyAsLong(handStrings[i % handStrings.length]);
+    }
+    return checksum;
+  }
+}
@@ -0,0 +1,74 @@
+package co.instil.interview.pokerface.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import co.instil.interview.pokerface.domain.Hand;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DistinctHandCounterTest {
+  private final DistinctHandCounter counter = new DistinctHandCounter();
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void countShouldCountTheDistinctHandsWhateverTheParallelism() throws Exception {
+    // given
+    final Path path = directory.resolve("hands.txt");
+    new HandFileGenerator().generate(path, GenerationOptions.builder()
+      .lines(50_000)
+      .seed(35L)
+      .malformedFraction(0.05)
+      .categoryWeights(GenerationOptions.parseCategoryWeights("ROYAL_FLUSH=1,STRAIGHT_FLUSH=1"))
+      .build());
+    final Map<Integer, Integer> expectedFrequencies = new HashMap<>();
+    long invalidLines = 0;
+    for (final String line : Files.readAllLines(path)) {
+      try {
+        expectedFrequencies.merge(Hand.parse(line).getIndex(), 1, Integer::sum);
+      } catch (final IllegalArgumentException e) {
+        ++invalidLines;
+      }
+    }
+
+    for (final int parallelism : new int[] {1, 4}) {
+      // when
+      final DistinctHands distinctHands = counter.count(path, parallelism, true);
+
+      // then
+      assertThat(distinctHands.getDistinctHands()).isEqualTo(expectedFrequencies.size());
+      assertThat(distinctHands.getInvalidLines()).isEqualTo(invalidLines);
+      assertThat(distinctHands.getHands()).isEqualTo(50_000 - invalidLines);
+      expectedFrequencies.forEach((index, frequency) ->
+        assertThat(distinctHands.getFrequency(index)).isEqualTo(frequency));
+    }
+  }
+
+  @Test
+  void writeDistinctHandsShouldWriteEveryDistinctHandOnce() throws Exception {
+    // given
+    final Path path = directory.resolve("duplicates.txt");
+    Files.write(path, List.of(
+      "AH KH QH JH TH", "3H JS 3C 7C 5D", "TH JH QH KH AH", "not a hand", "5D 7C 3C JS 3H"
+    ));
+    final DistinctHands distinctHands = counter.count(path, 2, true);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // when
+    counter.writeDistinctHands(distinctHands, new PrintStream(out, true), true);
+
+    // then
+    assertThat(out.toString().split(System.lineSeparator())).containsExactly(
+      "JS 7C 5D 3C 3H => 2",
+      "AH KH QH JH TH => 2"
+    );
+  }
+}
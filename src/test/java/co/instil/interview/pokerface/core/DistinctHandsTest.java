@@ -0,0 +1,103 @@
+package co.instil.interview.pokerface.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import co.instil.interview.pokerface.domain.Hand;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class DistinctHandsTest {
+  @Test
+  void addShouldTellWhetherTheHandIsNew() {
+    // given
+    final DistinctHands distinctHands = new DistinctHands(true);
+
+    // when
+    final boolean first = distinctHands.add(Hand.parse("AH KH QH JH TH"));
+    final boolean reordered = distinctHands.add(Hand.parse("TH JH QH KH AH"));
+    final boolean other = distinctHands.add(Hand.parse("2C 3C 4C 5C 7D"));
+
+    // then
+    assertThat(first).isTrue();
+    assertThat(reordered).isFalse();
+    assertThat(other).isTrue();
+    assertThat(distinctHands.getHands()).isEqualTo(3);
+    assertThat(distinctHands.getDistinctHands()).isEqualTo(2);
+    assertThat(distinctHands.getFrequency(Hand.parse("AH KH QH JH TH").getIndex())).isEqualTo(2);
+  }
+
+  @Test
+  void addShouldFailForIndexesOutOfRange() {
+    // given
+    final DistinctHands distinctHands = new DistinctHands(false);
+
+    // when
+    assertThrows(IllegalArgumentException.class, () -> distinctHands.add(-1));
+    assertThrows(IllegalArgumentException.class, () -> distinctHands.add(Hand.COMBINATIONS));
+
+    // then
+    assertThat(distinctHands.getHands()).isZero();
+  }
+
+  @Test
+  void mergeShouldAddUpTheHandsOfBoth() {
+    // given
+    final DistinctHands first = new DistinctHands(true);
+    first.add(0);
+    first.add(1);
+    first.add(1);
+    first.addInvalidLine();
+    final DistinctHands second = new DistinctHands(true);
+    second.add(1);
+    second.add(Hand.COMBINATIONS - 1);
+
+    // when
+    first.merge(second);
+
+    // then
+    assertThat(first.getHands()).isEqualTo(5);
+    assertThat(first.getInvalidLines()).isEqualTo(1);
+    assertThat(first.getDistinctHands()).isEqualTo(3);
+    assertThat(first.getFrequency(1)).isEqualTo(3);
+    final List<Integer> indexes = new ArrayList<>();
+    first.forEachIndex(indexes::add);
+    assertThat(indexes).containsExactly(0, 1, Hand.COMBINATIONS - 1);
+  }
+
+  @Test
+  void mergeShouldFailIfOnlyOneSideCountsFrequencies() {
+    assertThrows(IllegalArgumentException.class,
+      () -> new DistinctHands(true).merge(new DistinctHands(false)));
+  }
+
+  @Test
+  void mostFrequentShouldReturnTheMostFrequentHandsFirst() {
+    // given
+    final DistinctHands distinctHands = new DistinctHands(true);
+    final int[] frequencies = {3, 1, 4, 1, 5, 9, 2, 6};
+    for (int index = 0; index < frequencies.length; index++) {
+      for (int i = 0; i < frequencies[index]; i++) {
+        distinctHands.add(index * 1000);
+      }
+    }
+
+    // when
+    final int[] mostFrequent = distinctHands.mostFrequent(4);
+
+    // then
+    assertThat(mostFrequent).containsExactly(5000, 7000, 4000, 2000);
+    assertThat(distinctHands.mostFrequent(100)).hasSize(frequencies.length)
+      .endsWith(1000, 3000);
+  }
+
+  @Test
+  void frequenciesShouldOnlyBeAvailableWhenCounted() {
+    final DistinctHands distinctHands = new DistinctHands(false);
+    distinctHands.add(42);
+    assertThat(distinctHands.contains(42)).isTrue();
+    assertThrows(IllegalStateException.class, () -> distinctHands.getFrequency(42));
+    assertThrows(IllegalStateException.class, () -> distinctHands.mostFrequent(1));
+  }
+}
@@ -0,0 +1,105 @@
+package co.instil.interview.pokerface.core;
+
+import static co.instil.interview.pokerface.domain.Hand.HandName.FLUSH;
+import static co.instil.interview.pokerface.domain.Hand.HandName.HIGH_CARD;
+import static co.instil.interview.pokerface.domain.Hand.HandName.ONE_PAIR;
+import static co.instil.interview.pokerface.domain.Hand.HandName.ROYAL_FLUSH;
+import static co.instil.interview.pokerface.domain.Hand.HandName.STRAIGHT_FLUSH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import co.instil.interview.pokerface.domain.Card;
+import co.instil.interview.pokerface.domain.Hand;
+import co.instil.interview.pokerface.domain.Hand.HandName;
+import java.util.Arrays;
+import java.util.Comparator;
+import org.junit.jupiter.api.Test;
+
+class DrawAnalyzerTest {
+  private final DrawAnalyzer analyzer = new DrawAnalyzer();
+  private final HandNameDeterminer determiner = new HandNameDeterminer();
+
+  @Test
+  void analyzeShouldCountEveryCompletionOfFourCards() {
+    // when
+    final DrawOutcome outcome = analyzer.analyze(Card.parseCards("AH KH QH JH"));
+
+    // then
+    assertThat(outcome.getCardsToDraw()).isEqualTo(1);
+    assertThat(outcome.getCompletions()).isEqualTo(48);
+    assertThat(outcome.getCompletions(ROYAL_FLUSH)).isEqualTo(1);
+    assertThat(outcome.getCompletions(FLUSH)).isEqualTo(8);
+    assertThat(outcome.getCompletions(ONE_PAIR)).isEqualTo(12);
+    // The offsuit tens make for an ace high sequence, which only counts when suited
+    assertThat(outcome.getCompletions(HIGH_CARD)).isEqualTo(27);
+    assertThat(outcome.getProbability(ROYAL_FLUSH)).isCloseTo(1.0 / 48, within(1e-12));
+  }
+
+  @Test
+  void analyzeShouldAgreeWithTheHandNameDeterminerForEachCompletion() {
+    // given
+    final Card[] keptCards = Card.parseCards("9S 8S 8D");
+    final Card[] discardedCards = Card.parseCards("2C 5H");
+    final long[] expectedCompletions = new long[HandName.values().length];
+    for (int first = 0; first < Card.DECK_SIZE; first++) {
+      for (int second = first + 1; second < Card.DECK_SIZE; second++) {
+        final Card[] cards = Arrays.copyOf(keptCards, 5);
+        cards[3] = Card.ofIndex(first);
+        cards[4] = Card.ofIndex(second);
+        if (Arrays.stream(cards).distinct().count() == 5
+          && Arrays.stream(discardedCards).noneMatch(Arrays.asList(cards)::contains)) {
+          Arrays.sort(cards, Comparator.reverseOrder());
+          ++expectedCompletions[determiner.determineName(Hand.builder().cards(cards).build())
+            .ordinal()];
+        }
+      }
+    }
+
+    // when
+    final DrawOutcome outcome = analyzer.analyze(keptCards, discardedCards);
+
+    // then
+    assertThat(outcome.getCompletions()).isEqualTo(47 * 46 / 2);
+    assertThat(outcome.getCompletionsByHandName()).containsExactly(expectedCompletions);
+  }
+
+  @Test
+  void analyzeShouldCountEveryCompletionWhenDiscardingTheWholeHand() {
+    // when
+    final DrawOutcome outcome = analyzer.analyze(
+      new Card[0], Card.parseCards("AH AD AS 2C 7D")
+    );
+
+    // then
+    assertThat(outcome.getCompletions()).isEqualTo(1_533_939);
+  }
+
+  @Test
+  void findBestDiscardShouldKeepTheThreeOfAKind() {
+    // when
+    final DrawOutcome outcome = analyzer.findBestDiscard(Hand.parse("AH AD AS 2C 7D"));
+
+    // then
+    assertThat(outcome.getDiscardedCards()).containsExactlyInAnyOrder(
+      Card.parseCards("2C 7D")
+    );
+    assertThat(outcome.getExpectedRank()).isGreaterThan(4.0);
+  }
+
+  @Test
+  void findBestDiscardShouldStandPatOnAStraightFlush() {
+    // when
+    final DrawOutcome outcome = analyzer.findBestDiscard(Hand.parse("KH QH JH TH 9H"));
+
+    // then
+    assertThat(outcome.getDiscardedCards()).isEmpty();
+    assertThat(outcome.getCompletions(STRAIGHT_FLUSH)).isEqualTo(1);
+  }
+
+  @Test
+  void analyzeShouldFailIfTheSameCardIsKeptAndDiscarded() {
+    assertThrows(IllegalArgumentException.class,
+      () -> analyzer.analyze(Card.parseCards("AH KH"), Card.parseCards("AH")));
+  }
+}
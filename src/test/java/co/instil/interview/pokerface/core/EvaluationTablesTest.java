@@ -0,0 +1,179 @@
+package co.instil.interview.pokerface.core;
+
+import static co.instil.interview.pokerface.domain.Hand.HandName.FLUSH;
+import static co.instil.interview.pokerface.domain.Hand.HandName.FOUR_OF_A_KIND;
+import static co.instil.interview.pokerface.domain.Hand.HandName.FULL_HOUSE;
+import static co.instil.interview.pokerface.domain.Hand.HandName.HIGH_CARD;
+import static co.instil.interview.pokerface.domain.Hand.HandName.ROYAL_FLUSH;
+import static co.instil.interview.pokerface.domain.Hand.HandName.STRAIGHT;
+import static co.instil.interview.pokerface.domain.Hand.HandName.STRAIGHT_FLUSH;
+import static co.instil.interview.pokerface.domain.Hand.HandName.TWO_PAIR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import co.instil.interview.pokerface.domain.Card;
+import co.instil.interview.pokerface.domain.Hand;
+import co.instil.interview.pokerface.domain.Hand.HandName;
+import co.instil.interview.pokerface.domain.HandFixtures;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EvaluationTablesTest {
+  private final HandNameDeterminer determiner = new HandNameDeterminer();
+
+  @Test
+  void determineBestNameShouldAgreeWithDetermineNameForEveryFiveCardHand() {
+    HandFixtures.forEachHand(hand -> assertThat(determiner.determineBestName(hand.getCards()))
+      .as(hand::toString)
+      .isEqualTo(determiner.determineName(hand)));
+  }
+
+  @Test
+  void determineBestNameShouldReturnTheBestOfAllFiveCardHandsForSevenCards() {
+    final SplittableRandom random = HandFixtures.random();
+    for (int i = 0; i < 5_000; i++) {
+      final Card[] cards = HandFixtures.dealSorted(random, 7);
+      assertThat(determiner.determineBestName(cards))
+        .as(Arrays.toString(cards))
+        .isEqualTo(bestOfFive(cards));
+    }
+  }
+
+  @Test
+  void determineBestNameShouldNameSevenCards() {
+    assertThat(bestName("AH KH QH JH TH 2C 3D")).isEqualTo(ROYAL_FLUSH);
+    assertThat(bestName("AH KH QH JH TH 9H 3D")).isEqualTo(ROYAL_FLUSH);
+    assertThat(bestName("KH QH JH TH 9H 8H 3D")).isEqualTo(STRAIGHT_FLUSH);
+    assertThat(bestName("AH 2H 3H 4H 5H 9C 3D")).isEqualTo(STRAIGHT_FLUSH);
+    assertThat(bestName("9H 9D 9S 9C 2H 2D 2S")).isEqualTo(FOUR_OF_A_KIND);
+    assertThat(bestName("9H 9D 9S 2C 2H 3D 3S")).isEqualTo(FULL_HOUSE);
+    assertThat(bestName("9H 9D 9S 2C 2H 2D 3S")).isEqualTo(FULL_HOUSE);
+    assertThat(bestName("AH 9H 7H 5H 2H 3D 4S")).isEqualTo(FLUSH);
+    assertThat(bestName("9H 8D 7S 6C 5H 2D 2S")).isEqualTo(STRAIGHT);
+    assertThat(bestName("AH AD KS KC QH QD 2S")).isEqualTo(TWO_PAIR);
+    // As with five cards, the ace high sequence only counts when suited
+    assertThat(bestName("AH KD QS JC TH 3D 4S")).isEqualTo(HIGH_CARD);
+  }
+
+  @Test
+  void determineBestNameShouldFailForOtherHandSizesOrIdenticalCards() {
+    assertThrows(IllegalArgumentException.class,
+      () -> determiner.determineBestName(Card.parseCards("AH KD QS JC TH 3D")));
+    assertThrows(IllegalArgumentException.class,
+      () -> determiner.determineBestName(
+        Card.parse("AH"), Card.parse("AH"), Card.parse("2C"), Card.parse("3C"), Card.parse("4C")
+      ));
+  }
+
+  @Test
+  void rankIndexShouldMapEveryMultisetOfRanksToADistinctIndexWithinTheTable() {
+    for (final int cards : new int[] {5, 7}) {
+      final Set<Integer> indexes = new HashSet<>();
+      collectRankIndexes(new int[13], 0, cards, indexes);
+      assertThat(indexes).hasSize(EvaluationTables.rankTableSize(cards));
+      assertThat(indexes).allMatch(index -> index >= 0)
+        .allMatch(index -> index < EvaluationTables.rankTableSize(cards));
+    }
+  }
+
+  @Test
+  void mapShouldReadTheTablesWrittenByTheGenerator(@TempDir final Path directory)
+    throws Exception {
+    // given
+    final Path path = directory.resolve(EvaluationTables.RESOURCE);
+    try (final OutputStream out = Files.newOutputStream(path)) {
+      EvaluationTablesGenerator.write(out);
+    }
+
+    // when
+    final EvaluationTables tables = EvaluationTables.map(path);
+
+    // then
+    assertThat(tables.flushName(FastHandNameEvaluator.ROYAL_MASK)).isEqualTo(ROYAL_FLUSH);
+    assertThat(tables.flushName(FastHandNameEvaluator.WHEEL_MASK)).isEqualTo(STRAIGHT_FLUSH);
+    assertThat(tables.flushName(0b1_0101_0101_0000)).isEqualTo(FLUSH);
+  }
+
+  @Test
+  void loadShouldFailClearlyWhenTheConfiguredTablesCannotBeMapped(@TempDir final Path directory) {
+    // given
+    final String configuredPath = directory.resolve("missing.bin").toString();
+
+    // when
+    final IllegalStateException e = assertThrows(IllegalStateException.class,
+      () -> EvaluationTables.load(configuredPath, null));
+
+    // then
+    assertThat(e.getMessage()).contains(configuredPath);
+  }
+
+  @Test
+  void loadShouldGenerateTheTablesWhenTheShippedOnesCannotBeExtracted(
+    @TempDir final Path directory
+  ) throws Exception {
+    // given
+    final URL resource = new URL(
+      "jar:" + directory.resolve("missing.jar").toUri() + "!/" + EvaluationTables.RESOURCE
+    );
+
+    // when
+    final EvaluationTables tables = EvaluationTables.load(null, resource);
+
+    // then
+    assertThat(tables.flushName(FastHandNameEvaluator.ROYAL_MASK)).isEqualTo(ROYAL_FLUSH);
+    assertThat(tables.rankName(0x1_0111_1000L, 5)).isEqualTo(HIGH_CARD);
+  }
+
+  private void collectRankIndexes(
+    final int[] rankCounts,
+    final int fromRank,
+    final int cardsLeft,
+    final Set<Integer> indexes
+  ) {
+    if (cardsLeft == 0) {
+      indexes.add(EvaluationTables.rankIndex(rankCounts));
+      return;
+    }
+    for (int rank = fromRank; rank < rankCounts.length; rank++) {
+      ++rankCounts[rank];
+      collectRankIndexes(rankCounts, rank, cardsLeft - 1, indexes);
+      --rankCounts[rank];
+    }
+  }
+
+  private HandName bestName(final String cardsString) {
+    return determiner.determineBestName(Card.parseCards(cardsString));
+  }
+
+  private HandName bestOfFive(final Card[] cards) {
+    HandName bestHandName = null;
+    for (int skipped = 0; skipped < 1 << cards.length; skipped++) {
+      if (Integer.bitCount(skipped) != cards.length - 5) {
+        continue;
+      }
+      final int skippedMask = skipped;
+      final Card[] fiveCards = new Card[5];
+      int next = 0;
+      for (int i = 0; i < cards.length; i++) {
+        if ((skippedMask & 1 << i) == 0) {
+          fiveCards[next++] = cards[i];
+        }
+      }
+      Arrays.sort(fiveCards, Comparator.reverseOrder());
+      final HandName handName = determiner.determineName(Hand.builder().cards(fiveCards).build());
+      if (bestHandName == null || handName.getRank() > bestHandName.getRank()) {
+        bestHandName = handName;
+      }
+    }
+    return bestHandName;
+  }
+}
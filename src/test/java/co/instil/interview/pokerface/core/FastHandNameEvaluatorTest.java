@@ -0,0 +1,50 @@
+package co.instil.interview.pokerface.core;
+
+import static co.instil.interview.pokerface.domain.Hand.HandName.FLUSH;
+import static co.instil.interview.pokerface.domain.Hand.HandName.FOUR_OF_A_KIND;
+import static co.instil.interview.pokerface.domain.Hand.HandName.FULL_HOUSE;
+import static co.instil.interview.pokerface.domain.Hand.HandName.HIGH_CARD;
+import static co.instil.interview.pokerface.domain.Hand.HandName.ONE_PAIR;
+import static co.instil.interview.pokerface.domain.Hand.HandName.ROYAL_FLUSH;
+import static co.instil.interview.pokerface.domain.Hand.HandName.STRAIGHT;
+import static co.instil.interview.pokerface.domain.Hand.HandName.STRAIGHT_FLUSH;
+import static co.instil.interview.pokerface.domain.Hand.HandName.THREE_OF_A_KIND;
+import static co.instil.interview.pokerface.domain.Hand.HandName.TWO_PAIR;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import co.instil.interview.pokerface.domain.Hand;
+import co.instil.interview.pokerface.domain.Hand.HandName;
+import co.instil.interview.pokerface.domain.HandFixtures;
+import org.junit.jupiter.api.Test;
+
+class FastHandNameEvaluatorTest {
+  private final HandNameDeterminer determiner = new HandNameDeterminer();
+
+  @Test
+  void evaluateShouldReturnTheRightHandNameForTheRightInputHand() {
+    assertThat(evaluate("AH 6D 8S 5C TH")).isEqualTo(HIGH_CARD);
+    assertThat(evaluate("AH AD KS JC TH")).isEqualTo(ONE_PAIR);
+    assertThat(evaluate("AH AD KS KC TH")).isEqualTo(TWO_PAIR);
+    assertThat(evaluate("AH AD AS KC TH")).isEqualTo(THREE_OF_A_KIND);
+    assertThat(evaluate("TS 9D 8S 7H 6C")).isEqualTo(STRAIGHT);
+    assertThat(evaluate("5S 4D 3S 2H AC")).isEqualTo(STRAIGHT);
+    assertThat(evaluate("AH KH QH JH TS")).isEqualTo(HIGH_CARD);
+    assertThat(evaluate("2D TD QD AD KD")).isEqualTo(FLUSH);
+    assertThat(evaluate("AH AD AS TC TH")).isEqualTo(FULL_HOUSE);
+    assertThat(evaluate("9H 9D 3S 9S 9C")).isEqualTo(FOUR_OF_A_KIND);
+    assertThat(evaluate("KH QH JH TH 9H")).isEqualTo(STRAIGHT_FLUSH);
+    assertThat(evaluate("5S 4S 3S 2S AS")).isEqualTo(STRAIGHT_FLUSH);
+    assertThat(evaluate("AH KH QH JH TH")).isEqualTo(ROYAL_FLUSH);
+  }
+
+  @Test
+  void evaluateShouldAgreeWithTheHandNameDeterminerForEveryHand() {
+    HandFixtures.forEachHand(hand -> assertThat(FastHandNameEvaluator.evaluate(hand.getCards()))
+      .as(hand::toString)
+      .isEqualTo(determiner.determineName(hand)));
+  }
+
+  private static HandName evaluate(final String handString) {
+    return FastHandNameEvaluator.evaluate(Hand.parse(handString).getCards());
+  }
+}
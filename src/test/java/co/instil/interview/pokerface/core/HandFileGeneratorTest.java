@@ -0,0 +1,135 @@
+package co.instil.interview.pokerface.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import co.instil.interview.pokerface.domain.Hand;
+import co.instil.interview.pokerface.domain.Hand.HandName;
+import co.instil.interview.pokerface.domain.HandFixtures;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class HandFileGeneratorTest {
+  private final HandFileGenerator generator = new HandFileGenerator();
+  private final HandNameDeterminer determiner = new HandNameDeterminer();
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void dealCategoryShouldDealHandsOfTheGivenCategory() {
+    final SplittableRandom random = HandFixtures.random();
+    final int[] cards = new int[6];
+    for (final HandName handName : HandName.values()) {
+      for (int i = 0; i < 2_000; i++) {
+        HandFileGenerator.dealCategory(random, handName, cards);
+        assertThat(FastHandNameEvaluator.evaluate(cards[0], cards[1], cards[2], cards[3], cards[4]))
+          .isEqualTo(handName);
+      }
+    }
+  }
+
+  @Test
+  void generateShouldWriteTheSameFileForTheSameSeedWhateverTheParallelism() throws Exception {
+    // given
+    final Path singleThreaded = directory.resolve("single.txt");
+    final Path multiThreaded = directory.resolve("multi.txt");
+    final GenerationOptions.GenerationOptionsBuilder options = GenerationOptions.builder()
+      .lines(10_000)
+      .seed(42L)
+      .malformedFraction(0.1)
+      .blockLines(333);
+
+    // when
+    final long bytes = generator.generate(singleThreaded, options.parallelism(1).build());
+    generator.generate(multiThreaded, options.parallelism(4).build());
+
+    // then
+    assertThat(Files.size(singleThreaded)).isEqualTo(bytes);
+    assertThat(Files.readAllBytes(multiThreaded)).isEqualTo(Files.readAllBytes(singleThreaded));
+    assertThat(Files.readAllLines(singleThreaded)).hasSize(10_000);
+  }
+
+  @Test
+  void generateShouldWriteDifferentFilesForDifferentSeeds() throws Exception {
+    // given
+    final Path first = directory.resolve("first.txt");
+    final Path second = directory.resolve("second.txt");
+
+    // when
+    generator.generate(first, GenerationOptions.builder().lines(100).seed(1L).build());
+    generator.generate(second, GenerationOptions.builder().lines(100).seed(2L).build());
+
+    // then
+    assertThat(Files.readAllLines(first)).isNotEqualTo(Files.readAllLines(second));
+  }
+
+  @Test
+  void generateShouldSkewCategoriesByWeight() throws Exception {
+    // given
+    final Path path = directory.resolve("skewed.txt");
+    final GenerationOptions options = GenerationOptions.builder()
+      .lines(20_000)
+      .seed(7L)
+      .categoryWeights(GenerationOptions.parseCategoryWeights("ROYAL_FLUSH=1,FULL_HOUSE=3"))
+      .blockLines(1_000)
+      .build();
+
+    // when
+    generator.generate(path, options);
+
+    // then
+    final Map<HandName, Integer> counts = new EnumMap<>(HandName.class);
+    for (final String line : Files.readAllLines(path)) {
+      counts.merge(determiner.determineName(Hand.parse(line)), 1, Integer::sum);
+    }
+    assertThat(counts).containsOnlyKeys(HandName.ROYAL_FLUSH, HandName.FULL_HOUSE);
+    assertThat(counts.get(HandName.ROYAL_FLUSH) / 20_000.0).isCloseTo(0.25, within(0.02));
+  }
+
+  @Test
+  void generateShouldWriteTheGivenShareOfMalformedLines() throws Exception {
+    // given
+    final Path path = directory.resolve("malformed.txt");
+    final GenerationOptions options = GenerationOptions.builder()
+      .lines(20_000)
+      .seed(3L)
+      .malformedFraction(0.2)
+      .build();
+
+    // when
+    generator.generate(path, options);
+
+    // then
+    final List<String> lines = Files.readAllLines(path);
+    final long malformedLines = lines.stream().filter(line -> {
+      try {
+        Hand.parse(line);
+        return false;
+      } catch (final IllegalArgumentException e) {
+        return true;
+      }
+    }).count();
+    assertThat(malformedLines / 20_000.0).isCloseTo(0.2, within(0.02));
+  }
+
+  @Test
+  void generateShouldFailForInvalidOptions() {
+    final Path path = directory.resolve("invalid.txt");
+    assertThrows(IllegalArgumentException.class, () -> generator.generate(
+      path, GenerationOptions.builder().lines(10).malformedFraction(1.5).build()
+    ));
+    assertThrows(IllegalArgumentException.class, () -> generator.generate(
+      path, GenerationOptions.builder().lines(10).categoryWeights(new double[10]).build()
+    ));
+    assertThrows(IllegalArgumentException.class,
+      () -> GenerationOptions.parseCategoryWeights("FIVE_OF_A_KIND=1"));
+  }
+}
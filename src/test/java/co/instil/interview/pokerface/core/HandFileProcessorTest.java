@@ -0,0 +1,75 @@
+package co.instil.interview.pokerface.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import co.instil.interview.pokerface.core.pipeline.PipelineSettings;
+import co.instil.interview.pokerface.domain.HandFixtures;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class HandFileProcessorTest {
+  private final HandFileProcessor handFileProcessor = new HandFileProcessor(
+    new HandNameDeterminer(),
+    new OmahaHandNameDeterminer(),
+    new WildHandNameDeterminer(),
+    new PipelineSettings()
+  );
+
+  @TempDir
+  Path directory;
+
+  private Path input;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    final SplittableRandom random = HandFixtures.random();
+    final StringBuilder content = new StringBuilder("AH KH QH JH TH\nnot a hand\n");
+    for (int i = 0; i < 2_000; i++) {
+      content.append(HandFixtures.dealHandString(random)).append('\n');
+    }
+    input = Files.writeString(directory.resolve("hands.txt"), content, Charset.defaultCharset());
+  }
+
+  @Test
+  void processFileWithEvaluationTablesShouldPrintWhatThePredicatesWouldHavePrinted() {
+    // given
+    final HandNameFilter filter = HandNameFilter.of("ONE_PAIR", null);
+
+    // when
+    final String printed = printed(ProcessingOptions.builder()
+      .filter(filter)
+      .evaluationTables(true)
+      .build());
+
+    // then
+    assertThat(printed).isEqualTo(printed(ProcessingOptions.builder().filter(filter).build()))
+      .contains("AH KH QH JH TH => Royal Flush", "line: 2 - ERROR");
+  }
+
+  @Test
+  void processFileWithEvaluationTablesShouldRefuseToProfile() {
+    assertThrows(IllegalArgumentException.class, () -> handFileProcessor.processFile(
+      input, ProcessingOptions.builder().evaluationTables(true).printProfile(true).build()
+    ));
+  }
+
+  private String printed(final ProcessingOptions options) {
+    final PrintStream systemOut = System.out;
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    System.setOut(new PrintStream(out, true, Charset.defaultCharset()));
+    try {
+      handFileProcessor.processFile(input, options);
+    } finally {
+      System.setOut(systemOut);
+    }
+    return out.toString(Charset.defaultCharset());
+  }
+}
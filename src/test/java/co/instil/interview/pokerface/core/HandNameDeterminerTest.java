@@ -11,13 +11,25 @@ import static co.instil.interview.pokerface.domain.Hand.HandName.STRAIGHT_FLUSH;
 import static co.instil.interview.pokerface.domain.Hand.HandName.THREE_OF_A_KIND;
 import static co.instil.interview.pokerface.domain.Hand.HandName.TWO_PAIR;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import co.instil.interview.pokerface.domain.Card;
 import co.instil.interview.pokerface.domain.Hand;
 import co.instil.interview.pokerface.domain.Hand.HandName;
+import co.instil.interview.pokerface.domain.HandFixtures;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Predicate;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -29,6 +41,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
   MockitoExtension.class
 })
 class HandNameDeterminerTest {
+  private static final int RANDOM_DEALS = 100_000;
 
   @Spy
   private HandNameDeterminer determiner;
@@ -438,4 +451,252 @@ class HandNameDeterminerTest {
     verify(spiedDeterminer, times(1)).handHasAllCardsWithSequentialNames(hand);
     verify(spiedDeterminer, times(1)).handHasAllCardsOnSameSuit(hand);
   }
-}
\ No newline at end of file
+
+  @Test
+  void determineNameIfAcceptedShouldNotClassifyHandsThatCannotBeAccepted() {
+    // given
+    final Hand hand = Hand.parse("AH 6D 8S 5C TH");
+    final HandNameFilter filter = HandNameFilter.of("FULL_HOUSE", null);
+
+    // when
+    final Optional<HandName> handName = determiner.determineNameIfAccepted(hand, filter);
+
+    // then
+    assertThat(handName).isEmpty();
+    verify(determiner, never()).determineName(any());
+  }
+
+  @Test
+  void determineNameIfAcceptedShouldNotClassifyHighCardsThatCannotBeStraights() {
+    // given
+    final Hand hand = Hand.parse("AH 6D 8S 5C TH");
+    final HandNameFilter filter = HandNameFilter.of(null, "STRAIGHT");
+
+    // when
+    final Optional<HandName> handName = determiner.determineNameIfAccepted(hand, filter);
+
+    // then
+    assertThat(handName).isEmpty();
+    verify(determiner, never()).determineName(any());
+  }
+
+  @Test
+  void determineNameIfAcceptedShouldClassifyFewRandomDealsWhenOnlyStraightsAreAccepted() {
+    // given
+    final HandNameFilter filter = HandNameFilter.of(null, "STRAIGHT");
+    final SplittableRandom random = HandFixtures.random();
+    int straights = 0;
+
+    // when
+    for (int i = 0; i < RANDOM_DEALS; i++) {
+      final Hand hand = HandFixtures.dealHand(random);
+      if (determiner.determineNameIfAccepted(hand, filter).isPresent()) {
+        ++straights;
+      }
+    }
+
+    // then
+    // Half of the random deals are high cards, yet only about one in 250 spans five sequential
+    // ranks and has to be classified in full
+    assertThat(straights).isPositive();
+    verify(determiner, atMost(RANDOM_DEALS / 100)).determineName(any());
+  }
+
+  @Test
+  void determineNameIfAcceptedShouldReturnTheHandNameIfAccepted() {
+    // given
+    final HandNameFilter filter = HandNameFilter.of(null, "FLUSH,STRAIGHT");
+
+    // then
+    assertThat(determiner.determineNameIfAccepted(Hand.parse("2D TD QD AD KD"), filter))
+      .contains(FLUSH);
+    assertThat(determiner.determineNameIfAccepted(Hand.parse("TS 9D 8S 7H 6C"), filter))
+      .contains(STRAIGHT);
+    assertThat(determiner.determineNameIfAccepted(Hand.parse("AH 6D 8S 5C TH"), filter))
+      .isEmpty();
+    assertThat(determiner.determineNameIfAccepted(Hand.parse("KH QH JH TH 9H"), filter))
+      .isEmpty();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "AH 6D 8S 5C TH",
+    "9H 8D 7S 6C 4H",
+    "AD KS QH JC TH",
+    "5D 4S 3S 2C AH",
+    "AH AD KS JC TH",
+    "AH AD KS KC TH",
+    "AH AD AS KC TH",
+    "TS 9D 8S 7H 6C",
+    "2D TD QD AD KD",
+    "AH AD AS TC TH",
+    "9H 9D 3S 9S 9C",
+    "KH QH JH TH 9H",
+    "5S 4S 3S 2S AS",
+    "AH KH QH JH TH"
+  })
+  void determineCandidateNamesShouldAlwaysContainTheHandName(final String handString) {
+    // given
+    final Hand hand = Hand.parse(handString);
+
+    // when
+    final Set<HandName> candidateNames = HandNameDeterminer.determineCandidateNames(hand);
+
+    // then
+    assertThat(candidateNames).contains(determiner.determineName(hand));
+  }
+
+  @Test
+  void determineCandidateNamesShouldRuleStraightsOutOfRanksSpanningMoreThanFive() {
+    assertThat(HandNameDeterminer.determineCandidateNames(Hand.parse("AH 6D 8S 5C TH")))
+      .containsExactly(HIGH_CARD);
+    assertThat(HandNameDeterminer.determineCandidateNames(Hand.parse("9H 8D 7S 6C 4H")))
+      .containsExactly(HIGH_CARD);
+    assertThat(HandNameDeterminer.determineCandidateNames(Hand.parse("TS 9D 8S 7H 6C")))
+      .contains(STRAIGHT);
+    assertThat(HandNameDeterminer.determineCandidateNames(Hand.parse("5D 4S 3S 2C AH")))
+      .contains(STRAIGHT);
+  }
+
+  @Test
+  void determineNameWithProfileShouldRecordThePredicatesRunPerHandName() {
+    // given
+    final DeterminationProfile profile = new DeterminationProfile(false, true);
+
+    // when
+    determiner.determineName(Hand.parse("AH KH QH JH TH"), profile);
+    determiner.determineName(Hand.parse("AH 6D 8S 5C TH"), profile);
+    determiner.determineName(Hand.parse("AS 6C 8D 5C TH"), profile);
+
+    // then
+    assertThat(profile.getHands(ROYAL_FLUSH)).isEqualTo(1);
+    assertThat(profile.getPredicates(ROYAL_FLUSH)).isEqualTo(1);
+    assertThat(profile.getHands(HIGH_CARD)).isEqualTo(2);
+    assertThat(profile.getPredicates(HIGH_CARD)).isEqualTo(2 * HandName.values().length);
+    assertThat(profile.getNanos(HIGH_CARD)).isPositive();
+    assertThat(profile.getHands(FLUSH)).isZero();
+    assertThat(profile.toString()).contains("ROYAL_FLUSH", "HIGH_CARD", "TOTAL")
+      .doesNotContain("Predicate order");
+  }
+
+  @Test
+  void determineNameWithUntimedProfileShouldOnlyCountTheHandsNamed() {
+    // given
+    final DeterminationProfile profile = new DeterminationProfile(true, false);
+
+    // when
+    determiner.determineName(Hand.parse("AH 6D 8S 5C TH"), profile);
+
+    // then
+    assertThat(profile.getHands(HIGH_CARD)).isEqualTo(1);
+    assertThat(profile.getPredicates(HIGH_CARD)).isZero();
+    assertThat(profile.getNanos(HIGH_CARD)).isZero();
+  }
+
+  @Test
+  void determineNameWithAdaptiveProfileShouldCheckTheMostFrequentHandNamesFirst() {
+    // given
+    final DeterminationProfile profile = new DeterminationProfile(true, true);
+    final Hand highCard = Hand.parse("AH 6D 8S 5C TH");
+
+    // when
+    for (int i = 0; i < DeterminationProfile.REORDER_INTERVAL; i++) {
+      determiner.determineName(highCard, profile);
+    }
+    determiner.determineName(highCard, profile);
+
+    // then
+    assertThat(profile.getPredicateOrder()).startsWith(HIGH_CARD);
+    assertThat(profile.getPredicates(HIGH_CARD))
+      .isEqualTo(DeterminationProfile.REORDER_INTERVAL * HandName.values().length + 1L);
+    assertThat(profile.toString()).contains("Predicate order: HIGH_CARD,ROYAL_FLUSH");
+  }
+
+  @Test
+  void determineNameWithAdaptiveProfileShouldCheckStraightFlushesBeforeFlushes() {
+    // given
+    final DeterminationProfile profile = new DeterminationProfile(true, true);
+
+    // when
+    for (int i = 0; i < DeterminationProfile.REORDER_INTERVAL; i++) {
+      determiner.determineName(Hand.parse("AH 9H 7H 5H 2H"), profile);
+    }
+    final HandName handName = determiner.determineName(Hand.parse("AH 5H 4H 3H 2H"), profile);
+
+    // then
+    assertThat(profile.getPredicateOrder()).startsWith(STRAIGHT_FLUSH, FLUSH);
+    assertThat(handName).isEqualTo(STRAIGHT_FLUSH);
+  }
+
+  @Test
+  void determineNameWithAdaptiveProfileShouldNameHandsAsWithoutProfile() {
+    // given
+    final DeterminationProfile profile = new DeterminationProfile(true, true);
+    final HandNameDeterminer handNameDeterminer = new HandNameDeterminer();
+    final SplittableRandom random = HandFixtures.random();
+    final int[] cards = new int[5];
+
+    for (int i = 0; i < 20 * DeterminationProfile.REORDER_INTERVAL; i++) {
+      // Mostly flushes and straight flushes, to get them ahead of the rest
+      final HandName dealt = i % 3 == 0
+        ? HandName.values()[random.nextInt(HandName.values().length)]
+        : random.nextBoolean() ? FLUSH : STRAIGHT_FLUSH;
+      HandFileGenerator.dealCategory(random, dealt, cards);
+      final Hand hand = HandFixtures.hand(cards);
+
+      // when
+      final HandName handName = handNameDeterminer.determineName(hand, profile);
+
+      // then
+      assertThat(handName).isEqualTo(handNameDeterminer.determineName(hand)).isEqualTo(dealt);
+    }
+  }
+
+  @Test
+  void everyHandShouldSatisfyExactlyOnePredicateButTheSuitedWheel() {
+    // given
+    final HandNameDeterminer handNameDeterminer = new HandNameDeterminer();
+    final Map<HandName, Predicate<Hand>> predicates = Map.of(
+      ROYAL_FLUSH, handNameDeterminer::isRoyalFlush,
+      STRAIGHT_FLUSH, handNameDeterminer::isStraightFlush,
+      FOUR_OF_A_KIND, handNameDeterminer::isFourOfAKind,
+      FULL_HOUSE, handNameDeterminer::isFullHouse,
+      FLUSH, handNameDeterminer::isFlush,
+      STRAIGHT, handNameDeterminer::isStraight,
+      THREE_OF_A_KIND, handNameDeterminer::isThreeOfAKind,
+      TWO_PAIR, handNameDeterminer::isTwoPair,
+      ONE_PAIR, handNameDeterminer::isOnePair,
+      HIGH_CARD, handNameDeterminer::isHighCard
+    );
+
+    // The predicates only ever compare suits with each other, so one hand per suit isomorphism
+    // class stands for all the hands of the class
+    for (int index = 0; index < Hand.CANONICAL_CLASSES; index++) {
+      final Hand hand = Hand.ofCanonicalIndex(index);
+
+      // when
+      final Set<HandName> satisfied = EnumSet.noneOf(HandName.class);
+      predicates.forEach((handName, predicate) -> {
+        if (predicate.test(hand)) {
+          satisfied.add(handName);
+        }
+      });
+
+      // then
+      if (isSuitedWheel(hand)) {
+        assertThat(satisfied).as(hand.toString()).containsExactlyInAnyOrder(FLUSH, STRAIGHT_FLUSH);
+      } else {
+        assertThat(satisfied).as(hand.toString()).hasSize(1);
+      }
+    }
+  }
+
+  private static boolean isSuitedWheel(final Hand hand) {
+    final Card[] cards = hand.getCards();
+    final int rankMask = Arrays.stream(cards)
+      .mapToInt(card -> FastHandNameEvaluator.rankBit(card.getIndex()))
+      .reduce(0, (left, right) -> left | right);
+    return rankMask == FastHandNameEvaluator.WHEEL_MASK
+      && Arrays.stream(cards).allMatch(card -> card.getSuit() == cards[0].getSuit());
+  }
+}
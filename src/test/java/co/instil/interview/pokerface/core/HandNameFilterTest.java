@@ -0,0 +1,65 @@
+package co.instil.interview.pokerface.core;
+
+import static co.instil.interview.pokerface.domain.Hand.HandName.FLUSH;
+import static co.instil.interview.pokerface.domain.Hand.HandName.FOUR_OF_A_KIND;
+import static co.instil.interview.pokerface.domain.Hand.HandName.FULL_HOUSE;
+import static co.instil.interview.pokerface.domain.Hand.HandName.HIGH_CARD;
+import static co.instil.interview.pokerface.domain.Hand.HandName.ROYAL_FLUSH;
+import static co.instil.interview.pokerface.domain.Hand.HandName.STRAIGHT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import co.instil.interview.pokerface.domain.Hand.HandName;
+import java.util.EnumSet;
+import org.junit.jupiter.api.Test;
+
+class HandNameFilterTest {
+  @Test
+  void ofShouldAcceptEveryHandNameIfNoArgumentIsProvided() {
+    // when
+    final HandNameFilter filter = HandNameFilter.of(null, null);
+
+    // then
+    assertThat(filter.acceptsAll()).isTrue();
+    for (final HandName handName : HandName.values()) {
+      assertThat(filter.accepts(handName)).isTrue();
+    }
+  }
+
+  @Test
+  void ofShouldAcceptOnlyHandNamesOfEqualOrGreaterRankThanTheMinimum() {
+    // when
+    final HandNameFilter filter = HandNameFilter.of("full_house", null);
+
+    // then
+    assertThat(filter.acceptsAll()).isFalse();
+    assertThat(filter.accepts(FULL_HOUSE)).isTrue();
+    assertThat(filter.accepts(FOUR_OF_A_KIND)).isTrue();
+    assertThat(filter.accepts(ROYAL_FLUSH)).isTrue();
+    assertThat(filter.accepts(FLUSH)).isFalse();
+    assertThat(filter.accepts(HIGH_CARD)).isFalse();
+  }
+
+  @Test
+  void ofShouldAcceptTheIntersectionOfBothArguments() {
+    // when
+    final HandNameFilter filter = HandNameFilter.of("STRAIGHT", "FLUSH, HIGH_CARD");
+
+    // then
+    assertThat(filter.accepts(FLUSH)).isTrue();
+    assertThat(filter.accepts(HIGH_CARD)).isFalse();
+    assertThat(filter.accepts(STRAIGHT)).isFalse();
+    assertThat(filter.acceptsAnyOf(EnumSet.of(HIGH_CARD, STRAIGHT))).isFalse();
+    assertThat(filter.acceptsAnyOf(EnumSet.of(HIGH_CARD, FLUSH))).isTrue();
+  }
+
+  @Test
+  void ofShouldFailForUnknownHandNames() {
+    // when
+    final IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+      () -> HandNameFilter.of(null, "FLUSH,PAIR"));
+
+    // then
+    assertThat(e.getMessage()).startsWith("The input string [PAIR] is not a valid hand name");
+  }
+}
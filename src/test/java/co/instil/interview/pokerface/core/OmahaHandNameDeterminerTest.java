@@ -0,0 +1,83 @@
+package co.instil.interview.pokerface.core;
+
+import static co.instil.interview.pokerface.domain.Hand.HandName.FLUSH;
+import static co.instil.interview.pokerface.domain.Hand.HandName.FULL_HOUSE;
+import static co.instil.interview.pokerface.domain.Hand.HandName.ONE_PAIR;
+import static co.instil.interview.pokerface.domain.Hand.HandName.ROYAL_FLUSH;
+import static co.instil.interview.pokerface.domain.Hand.HandName.STRAIGHT;
+import static co.instil.interview.pokerface.domain.Hand.HandName.TWO_PAIR;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import co.instil.interview.pokerface.domain.Card;
+import co.instil.interview.pokerface.domain.Combinatorics;
+import co.instil.interview.pokerface.domain.Hand;
+import co.instil.interview.pokerface.domain.Hand.HandName;
+import co.instil.interview.pokerface.domain.HandFixtures;
+import co.instil.interview.pokerface.domain.OmahaHand;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class OmahaHandNameDeterminerTest {
+  private final HandNameDeterminer handNameDeterminer = new HandNameDeterminer();
+  private final OmahaHandNameDeterminer determiner = new OmahaHandNameDeterminer();
+
+  @Test
+  void determineNameShouldUseExactlyTwoHoleCardsAndThreeBoardCards() {
+    // A single hole heart does not make a flush out of four hearts on the board
+    assertThat(determineName("AH 7D 7C 2S | KH QH JH TH 3D")).isEqualTo(ONE_PAIR);
+    // Four aces in the hole only count as a pair
+    assertThat(determineName("AH AD AS AC | 2H 5D 8C JS KH")).isEqualTo(ONE_PAIR);
+    // Trips on the board with a pair in the hole make a full house
+    assertThat(determineName("9H 9D 2C 3S | KH KD KC 4S 7D")).isEqualTo(FULL_HOUSE);
+    // Using only one hole card is not allowed, so a board straight does not count
+    assertThat(determineName("AH AD 2C 2S | 5H 6D 7C 8S 9D")).isEqualTo(ONE_PAIR);
+    assertThat(determineName("AH AS 8D 9C | 5H 6D 7C KS 2D")).isEqualTo(STRAIGHT);
+    assertThat(determineName("AH KH 7D 2C | QH JH TH 3S 3D")).isEqualTo(ROYAL_FLUSH);
+    assertThat(determineName("AH 2H 7D 2C | QH 9H 4H 3S 3D")).isEqualTo(FLUSH);
+    assertThat(determineName("AH 2D 7D 8C | QH 9H AS 2S 4D")).isEqualTo(TWO_PAIR);
+  }
+
+  @Test
+  void determineNameShouldAgreeWithTheBestOfAllSixtyHandsNamedByTheHandNameDeterminer() {
+    final SplittableRandom random = HandFixtures.random();
+    for (int i = 0; i < 2_000; i++) {
+      final Card[] cards = HandFixtures.deal(random, 9);
+      final OmahaHand hand = OmahaHand.builder()
+        .holeCards(Arrays.copyOfRange(cards, 0, 4))
+        .boardCards(Arrays.copyOfRange(cards, 4, 9))
+        .build();
+      assertThat(determiner.determineName(hand))
+        .as(hand.toString())
+        .isEqualTo(determineNameByBruteForce(hand));
+    }
+  }
+
+  private HandName determineName(final String handString) {
+    return determiner.determineName(OmahaHand.parse(handString));
+  }
+
+  private HandName determineNameByBruteForce(final OmahaHand hand) {
+    HandName bestHandName = null;
+    for (final int[] pair : Combinatorics.combinations(4, 2)) {
+      for (final int[] triple : Combinatorics.combinations(5, 3)) {
+        final Card[] cards = {
+          hand.getHoleCards()[pair[0]],
+          hand.getHoleCards()[pair[1]],
+          hand.getBoardCards()[triple[0]],
+          hand.getBoardCards()[triple[1]],
+          hand.getBoardCards()[triple[2]]
+        };
+        Arrays.sort(cards, Comparator.reverseOrder());
+        final HandName handName = handNameDeterminer.determineName(
+          Hand.builder().cards(cards).build()
+        );
+        if (bestHandName == null || handName.getRank() > bestHandName.getRank()) {
+          bestHandName = handName;
+        }
+      }
+    }
+    return bestHandName;
+  }
+}
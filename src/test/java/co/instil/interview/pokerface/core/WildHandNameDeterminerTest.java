@@ -0,0 +1,96 @@
+package co.instil.interview.pokerface.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import co.instil.interview.pokerface.domain.Card;
+import co.instil.interview.pokerface.domain.Combinatorics;
+import co.instil.interview.pokerface.domain.Hand.HandName;
+import co.instil.interview.pokerface.domain.WildHand;
+import java.util.Arrays;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class WildHandNameDeterminerTest {
+  private final WildHandNameDeterminer determiner = new WildHandNameDeterminer();
+
+  @ParameterizedTest
+  @CsvSource({
+    "AH KH QH JH JK, ROYAL_FLUSH",
+    "AH KH QH JK JK, ROYAL_FLUSH",
+    "KH QH JH 9H JK, STRAIGHT_FLUSH",
+    "AH 2H 4H JK JK, STRAIGHT_FLUSH",
+    "AH AD AS JK 2C, FOUR_OF_A_KIND",
+    "AH AD JK JK 2C, FOUR_OF_A_KIND",
+    "AH AD 2S 2C JK, FULL_HOUSE",
+    "AH 9H 7H 2H JK, FLUSH",
+    // The ace high sequence only counts when suited
+    "AH KD QS JC JK, ONE_PAIR",
+    "AH KD QS JK JK, THREE_OF_A_KIND",
+    "KH QD JS 9C JK, STRAIGHT",
+    "AH 2D 3S JK JK, STRAIGHT",
+    "AH KD 7S 2C JK, ONE_PAIR",
+    "AH KD 7S 2C 3D, HIGH_CARD"
+  })
+  void determineNameShouldReturnTheBestNameTheJokersCanMake(
+    final String handString,
+    final HandName expectedHandName
+  ) {
+    assertThat(determiner.determineName(WildHand.parse(handString))).isEqualTo(expectedHandName);
+  }
+
+  /**
+   * Checks every hand with the given number of jokers against trying every card in their place
+   */
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2})
+  void evaluateShouldAgreeWithSubstitutingEveryCardForTheJokers(final int jokers) {
+    final int naturalCards = WildHand.CARDS - jokers;
+    final int[] cards = new int[WildHand.CARDS];
+    final int[][] combinations = Combinatorics.combinations(Card.DECK_SIZE, naturalCards);
+    for (final int[] combination : combinations) {
+      System.arraycopy(combination, 0, cards, 0, naturalCards);
+      long rankCounts = 0L;
+      int rankMask = 0;
+      boolean suited = true;
+      for (int i = 0; i < naturalCards; i++) {
+        rankCounts += FastHandNameEvaluator.rankCount(cards[i]);
+        rankMask |= FastHandNameEvaluator.rankBit(cards[i]);
+        suited &= cards[i] % 4 == cards[0] % 4;
+      }
+
+      final HandName handName = WildHandNameDeterminer.evaluate(
+        rankCounts, rankMask, suited, jokers
+      );
+
+      assertThat(handName.getRank())
+        .as("Hand of cards %s", Arrays.toString(combination))
+        .isEqualTo(bestSubstitution(cards, naturalCards, 0));
+    }
+  }
+
+  private static int bestSubstitution(final int[] cards, final int filled, final int fromCard) {
+    if (filled == cards.length) {
+      return FastHandNameEvaluator.evaluate(cards[0], cards[1], cards[2], cards[3], cards[4])
+        .getRank();
+    }
+    int bestRank = 0;
+    // Substitutes are taken in increasing order, as the order of the jokers does not matter
+    for (int card = fromCard; card < Card.DECK_SIZE; card++) {
+      if (!contains(cards, filled, card)) {
+        cards[filled] = card;
+        bestRank = Math.max(bestRank, bestSubstitution(cards, filled + 1, card + 1));
+      }
+    }
+    return bestRank;
+  }
+
+  private static boolean contains(final int[] cards, final int count, final int card) {
+    for (int i = 0; i < count; i++) {
+      if (cards[i] == card) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,124 @@
+package co.instil.interview.pokerface.core.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class LineProcessingPipelineTest {
+  @Test
+  void runShouldWriteTheOutputOfEveryLineInInputOrder() throws Exception {
+    // given
+    final PipelineSettings settings = settings(7, 2, 4, 3);
+    final LineProcessingPipeline<Integer> pipeline = new LineProcessingPipeline<>(
+      settings,
+      LineProcessingPipelineTest::parse,
+      number -> number % 3 == 0 ? Optional.empty() : Optional.of("number " + number)
+    );
+    final String input = IntStream.rangeClosed(1, 10_000)
+      .mapToObj(number -> number % 100 == 0 ? "oops" : Integer.toString(number))
+      .collect(Collectors.joining("\n"));
+    final List<String> expectedLines = new ArrayList<>();
+    for (int number = 1; number <= 10_000; number++) {
+      if (number % 100 == 0) {
+        expectedLines.add("line: " + number + " - ERROR: Not a number: oops");
+      } else if (number % 3 != 0) {
+        expectedLines.add("number " + number);
+      }
+    }
+
+    // when
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final List<StageStatistics> statistics = pipeline.run(
+      new BufferedReader(new StringReader(input)),
+      new PrintStream(out, true, StandardCharsets.UTF_8)
+    );
+
+    // then
+    assertThat(out.toString(StandardCharsets.UTF_8).lines()).containsExactlyElementsOf(
+      expectedLines
+    );
+    assertThat(statistics).extracting(StageStatistics::getName)
+      .containsExactly("ingest", "parse", "classify", "write");
+    assertThat(statistics.get(0).getItems()).isEqualTo(10_000);
+    assertThat(statistics.get(1).getItems()).isEqualTo(10_000);
+    assertThat(statistics.get(2).getItems()).isEqualTo(10_000);
+    assertThat(statistics.get(3).getItems()).isEqualTo(expectedLines.size());
+    assertThat(statistics.get(1).getBatches()).isEqualTo(1_429);
+    assertThat(statistics.get(1).getParallelism()).isEqualTo(4);
+  }
+
+  @Test
+  void runShouldWriteNothingForEmptyInput() throws Exception {
+    // given
+    final LineProcessingPipeline<Integer> pipeline = new LineProcessingPipeline<>(
+      settings(10, 4, 2, 2), LineProcessingPipelineTest::parse, number -> Optional.of("x")
+    );
+
+    // when
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    pipeline.run(new BufferedReader(new StringReader("")), new PrintStream(out));
+
+    // then
+    assertThat(out.size()).isZero();
+  }
+
+  @Test
+  void runShouldFailIfAStageFailsWithAnythingOtherThanAnIllegalArgumentException() {
+    // given
+    final LineProcessingPipeline<Integer> pipeline = new LineProcessingPipeline<>(
+      settings(10, 4, 2, 2),
+      LineProcessingPipelineTest::parse,
+      number -> {
+        if (number == 500) {
+          throw new IllegalStateException("Boom");
+        }
+        return Optional.of("x");
+      }
+    );
+    final String input = IntStream.rangeClosed(1, 100_000)
+      .mapToObj(Integer::toString)
+      .collect(Collectors.joining("\n"));
+
+    // when
+    final IllegalStateException e = assertThrows(IllegalStateException.class,
+      () -> pipeline.run(
+        new BufferedReader(new StringReader(input)), new PrintStream(new ByteArrayOutputStream())
+      ));
+
+    // then
+    assertThat(e.getMessage()).isEqualTo("Boom");
+  }
+
+  private static PipelineSettings settings(
+    final int batchSize,
+    final int bufferCapacity,
+    final int parseParallelism,
+    final int classifyParallelism
+  ) {
+    final PipelineSettings settings = new PipelineSettings();
+    settings.setBatchSize(batchSize);
+    settings.setBufferCapacity(bufferCapacity);
+    settings.setParseParallelism(parseParallelism);
+    settings.setClassifyParallelism(classifyParallelism);
+    return settings;
+  }
+
+  private static Integer parse(final String line) {
+    try {
+      return Integer.valueOf(line);
+    } catch (final NumberFormatException nfe) {
+      throw new IllegalArgumentException("Not a number: " + line);
+    }
+  }
+}
@@ -0,0 +1,186 @@
+package co.instil.interview.pokerface.core.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import co.instil.interview.pokerface.core.HandFileProcessor;
+import co.instil.interview.pokerface.core.HandNameDeterminer;
+import co.instil.interview.pokerface.core.OmahaHandNameDeterminer;
+import co.instil.interview.pokerface.core.WildHandNameDeterminer;
+import co.instil.interview.pokerface.core.pipeline.PipelineSettings;
+import co.instil.interview.pokerface.domain.HandFixtures;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ShardCoordinatorTest {
+  @TempDir
+  Path directory;
+
+  private final PipelineSettings pipelineSettings = new PipelineSettings();
+  private Path input;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    final SplittableRandom random = HandFixtures.random();
+    final StringBuilder content = new StringBuilder();
+    for (int i = 0; i < 5_000; i++) {
+      if (i % 97 == 0) {
+        content.append("not a hand\n");
+      } else {
+        content.append(HandFixtures.dealHandString(random)).append('\n');
+      }
+    }
+    input = Files.writeString(directory.resolve("hands.txt"), content, Charset.defaultCharset());
+  }
+
+  @Test
+  void processFileShouldPrintWhatASingleProcessWouldHavePrinted() throws Exception {
+    // given
+    final ShardCoordinator coordinator = new ShardCoordinator(
+      pipelineSettings, ShardCoordinatorTest::runInProcess
+    );
+
+    // when
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final ShardCoordinator.Summary summary = coordinator.processFile(
+      input, 4, 1, new PrintStream(out, true, Charset.defaultCharset())
+    );
+
+    // then
+    assertThat(out.toString(Charset.defaultCharset())).isEqualTo(processInSingleProcess());
+    assertThat(summary.getShards()).isEqualTo(4);
+    assertThat(summary.getLines()).isEqualTo(5_000);
+    assertThat(summary.getErrors()).isEqualTo(52);
+    assertThat(summary.getRetries()).isZero();
+  }
+
+  @Test
+  void processFileShouldPrintWhatASingleProcessWouldHavePrintedWithWorkerProcesses()
+    throws Exception {
+    // given
+    final ShardCoordinator coordinator = new ShardCoordinator(pipelineSettings);
+
+    // when
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final ShardCoordinator.Summary summary = coordinator.processFile(
+      input, 2, 1, new PrintStream(out, true, Charset.defaultCharset())
+    );
+
+    // then
+    assertThat(out.toString(Charset.defaultCharset())).isEqualTo(processInSingleProcess());
+    assertThat(summary.getShards()).isEqualTo(2);
+    assertThat(summary.getLines()).isEqualTo(5_000);
+    assertThat(summary.getRetries()).isZero();
+  }
+
+  @Test
+  void processFileShouldShareThePipelineParallelismBetweenWorkers() throws Exception {
+    // given
+    pipelineSettings.setBatchSize(64);
+    pipelineSettings.setBufferCapacity(4);
+    pipelineSettings.setParseParallelism(8);
+    pipelineSettings.setClassifyParallelism(2);
+    final List<List<String>> launched = new CopyOnWriteArrayList<>();
+    final ShardCoordinator coordinator = new ShardCoordinator(
+      pipelineSettings, (arguments, log) -> {
+        launched.add(arguments);
+        return runInProcess(arguments, log);
+      }
+    );
+
+    // when
+    coordinator.processFile(input, 4, 1, new PrintStream(new ByteArrayOutputStream()));
+
+    // then
+    assertThat(launched).hasSize(4)
+      .allSatisfy(arguments -> assertThat(arguments.subList(5, 9))
+        .containsExactly("64", "4", "2", "1"));
+  }
+
+  @Test
+  void processFileShouldRetryFailedWorkers() throws Exception {
+    // given
+    final Set<String> failedOnce = ConcurrentHashMap.newKeySet();
+    final ShardCoordinator coordinator = new ShardCoordinator(
+      pipelineSettings, (arguments, log) -> {
+        // Every worker but the first one fails on its first attempt
+        if (!arguments.get(1).equals("0") && failedOnce.add(arguments.get(1))) {
+          return CompletableFuture.completedFuture(1);
+        }
+        return runInProcess(arguments, log);
+      }
+    );
+
+    // when
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final ShardCoordinator.Summary summary = coordinator.processFile(
+      input, 3, 2, new PrintStream(out, true, Charset.defaultCharset())
+    );
+
+    // then
+    assertThat(out.toString(Charset.defaultCharset())).isEqualTo(processInSingleProcess());
+    assertThat(summary.getRetries()).isEqualTo(2);
+  }
+
+  @Test
+  void processFileShouldGiveUpOnceAWorkerRunsOutOfAttempts() {
+    // given
+    final ShardCoordinator coordinator = new ShardCoordinator(
+      pipelineSettings, (arguments, log) -> CompletableFuture.completedFuture(1)
+    );
+
+    // when
+    final IllegalStateException e = assertThrows(IllegalStateException.class,
+      () -> coordinator.processFile(input, 2, 3, new PrintStream(new ByteArrayOutputStream())));
+
+    // then
+    assertThat(e.getMessage()).contains("failed 3 times");
+  }
+
+  @Test
+  void renumberShouldShiftTheLineNumberOfAnError() {
+    assertThat(ShardCoordinator.renumber("line: 7 - ERROR: line: 3 is not valid", 100))
+      .isEqualTo("line: 107 - ERROR: line: 3 is not valid");
+  }
+
+  private String processInSingleProcess() throws Exception {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final BufferedReader reader = Files.newBufferedReader(input, Charset.defaultCharset())) {
+      handFileProcessor().processHands(
+        reader, new PrintStream(out, true, Charset.defaultCharset())
+      );
+    }
+    return out.toString(Charset.defaultCharset());
+  }
+
+  private static CompletableFuture<Integer> runInProcess(
+    final List<String> arguments,
+    final Path log
+  ) {
+    return CompletableFuture.supplyAsync(
+      () -> ShardWorker.run(arguments.toArray(String[]::new))
+    );
+  }
+
+  private HandFileProcessor handFileProcessor() {
+    return new HandFileProcessor(
+      new HandNameDeterminer(),
+      new OmahaHandNameDeterminer(),
+      new WildHandNameDeterminer(),
+      pipelineSettings
+    );
+  }
+}
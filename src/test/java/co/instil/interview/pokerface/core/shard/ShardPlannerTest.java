@@ -0,0 +1,64 @@
+package co.instil.interview.pokerface.core.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ShardPlannerTest {
+  @TempDir
+  Path directory;
+
+  @Test
+  void planShouldSplitTheFileIntoContiguousLineAlignedShards() throws Exception {
+    // given
+    final StringBuilder content = new StringBuilder();
+    for (int i = 0; i < 1_000; i++) {
+      content.append("line ").append(i).append('\n');
+    }
+    final byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+    final Path file = Files.write(directory.resolve("lines.txt"), bytes);
+
+    // when
+    final List<Shard> shards = ShardPlanner.plan(file, 7);
+
+    // then
+    assertThat(shards).hasSize(7);
+    assertThat(shards.get(0).getStart()).isZero();
+    assertThat(shards.get(6).getEnd()).isEqualTo(bytes.length);
+    for (int i = 0; i < shards.size(); i++) {
+      final Shard shard = shards.get(i);
+      assertThat(shard.getIndex()).isEqualTo(i);
+      assertThat(shard.length()).isPositive();
+      assertThat(bytes[(int) shard.getEnd() - 1]).isEqualTo((byte) '\n');
+      if (i > 0) {
+        assertThat(shard.getStart()).isEqualTo(shards.get(i - 1).getEnd());
+      }
+    }
+  }
+
+  @Test
+  void planShouldReturnFewerShardsThanRequestedIfThereAreNotEnoughLines() throws Exception {
+    // given
+    final Path file = Files.writeString(directory.resolve("lines.txt"), "AH KH QH JH TH\n2C 3C");
+
+    // when
+    final List<Shard> shards = ShardPlanner.plan(file, 8);
+
+    // then
+    assertThat(shards).containsExactly(new Shard(0, 0, 15), new Shard(1, 15, 20));
+  }
+
+  @Test
+  void planShouldReturnNoShardsForAnEmptyFile() throws Exception {
+    // given
+    final Path file = Files.createFile(directory.resolve("empty.txt"));
+
+    // then
+    assertThat(ShardPlanner.plan(file, 4)).isEmpty();
+  }
+}
@@ -0,0 +1,24 @@
+package co.instil.interview.pokerface.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class CombinatoricsTest {
+  @Test
+  void binomialsShouldReturnPascalsTriangle() {
+    final int[][] binomials = Combinatorics.binomials(Card.DECK_SIZE, 5);
+
+    assertThat(binomials).hasDimensions(Card.DECK_SIZE + 1, 6);
+    assertThat(binomials[4]).containsExactly(1, 4, 6, 4, 1, 0);
+    assertThat(binomials[Card.DECK_SIZE][5]).isEqualTo(2_598_960);
+  }
+
+  @Test
+  void combinationsShouldReturnAllCombinationsInLexicographicalOrder() {
+    assertThat(Combinatorics.combinations(4, 2)).isDeepEqualTo(new int[][] {
+      {0, 1}, {0, 2}, {0, 3}, {1, 2}, {1, 3}, {2, 3}
+    });
+    assertThat(Combinatorics.combinations(5, 3)).hasDimensions(10, 3);
+  }
+}
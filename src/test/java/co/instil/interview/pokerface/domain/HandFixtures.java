@@ -0,0 +1,83 @@
+package co.instil.interview.pokerface.domain;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Deals the cards and hands the tests check evaluators against. Random deals all start from the
+ * same seed so that a failing hand can be reproduced, and small spaces are walked exhaustively
+ * instead
+ */
+public final class HandFixtures {
+  public static final long SEED = 52L;
+  private static final int HAND_CARDS = 5;
+
+  private HandFixtures() {
+  }
+
+  public static SplittableRandom random() {
+    return new SplittableRandom(SEED);
+  }
+
+  /**
+   * Distinct cards in the order they were drawn
+   */
+  public static Card[] deal(final SplittableRandom random, final int count) {
+    return random.ints(0, Card.DECK_SIZE).distinct().limit(count)
+      .mapToObj(Card::ofIndex)
+      .toArray(Card[]::new);
+  }
+
+  /**
+   * Distinct cards, highest rank first as {@link Hand#parse(String)} would sort them
+   */
+  public static Card[] dealSorted(final SplittableRandom random, final int count) {
+    final Card[] cards = deal(random, count);
+    Arrays.sort(cards, Comparator.reverseOrder());
+    return cards;
+  }
+
+  public static Hand dealHand(final SplittableRandom random) {
+    return Hand.builder().cards(dealSorted(random, HAND_CARDS)).build();
+  }
+
+  public static String dealHandString(final SplittableRandom random) {
+    return dealHand(random).toString();
+  }
+
+  /**
+   * @param cardIndexes the {@link Card#getIndex()} of the cards, in any order
+   */
+  public static Hand hand(final int... cardIndexes) {
+    return Hand.builder()
+      .cards(Arrays.stream(cardIndexes).mapToObj(Card::ofIndex)
+        .sorted(Comparator.reverseOrder())
+        .toArray(Card[]::new))
+      .build();
+  }
+
+  /**
+   * Walks every hand of five distinct cards once, its cards sorted from the highest to the lowest
+   */
+  public static void forEachHand(final Consumer<Hand> action) {
+    forEachHand(new Card[HAND_CARDS], 0, Card.DECK_SIZE, action);
+  }
+
+  private static void forEachHand(
+    final Card[] cards,
+    final int position,
+    final int bound,
+    final Consumer<Hand> action
+  ) {
+    if (position == cards.length) {
+      action.accept(Hand.builder().cards(cards.clone()).build());
+      return;
+    }
+    for (int cardIndex = bound - 1; cardIndex >= cards.length - position - 1; cardIndex--) {
+      cards[position] = Card.ofIndex(cardIndex);
+      forEachHand(cards, position + 1, cardIndex, action);
+    }
+  }
+}
@@ -3,6 +3,7 @@ package co.instil.interview.pokerface.domain;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -55,4 +56,81 @@ class HandTest {
     assertThat(e.getMessage())
       .isEqualTo("The input string [" + handString + "] is not a valid Hand");
   }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "3H JS 3C 7C 5D",
+    "5D 7C 3C JS 3H",
+    "JS 3H 5D 3C 7C"
+  })
+  void getIndexShouldNotDependOnTheOrderOfTheCards(final String handString) {
+    assertThat(Hand.parse(handString).getIndex())
+      .isEqualTo(Hand.parse("3H JS 3C 7C 5D").getIndex());
+  }
+
+  @Test
+  void ofIndexShouldBeTheReverseOfGetIndexForEveryHand() {
+    for (int index = 0; index < Hand.COMBINATIONS; index++) {
+      assertThat(Hand.ofIndex(index).getIndex()).isEqualTo(index);
+    }
+    assertThat(Hand.parse("3H 2H 2D 2S 2C").getIndex()).isZero();
+    assertThat(Hand.parse("AC AS AD AH KC").getIndex()).isEqualTo(Hand.COMBINATIONS - 1);
+    assertThat(Hand.ofIndex(Hand.COMBINATIONS - 1)).hasToString("AC AS AD AH KC");
+  }
+
+  @Test
+  void ofIndexShouldFailForIndexesOutOfRange() {
+    assertThrows(IllegalArgumentException.class, () -> Hand.ofIndex(-1));
+    assertThrows(IllegalArgumentException.class, () -> Hand.ofIndex(Hand.COMBINATIONS));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "AS KS QS JS TS",
+    "AH KH QH JH TH",
+    "TC JC QC KC AC"
+  })
+  void canonicalShouldMapHandsDifferingOnlyBySuitToTheSameRepresentative(
+    final String handString
+  ) {
+    // when
+    final Hand hand = Hand.parse(handString);
+
+    // then
+    assertThat(hand.canonical()).hasToString("AH KH QH JH TH");
+    assertThat(hand.getCanonicalIndex())
+      .isEqualTo(Hand.parse("AH KH QH JH TH").getCanonicalIndex());
+  }
+
+  @Test
+  void canonicalShouldTellApartHandsThatAreNotSuitIsomorphic() {
+    assertThat(Hand.parse("AH AD KH QS 2C").getCanonicalIndex())
+      .isEqualTo(Hand.parse("AC AS KS QD 2H").getCanonicalIndex())
+      .isNotEqualTo(Hand.parse("AH AD KS QS 2C").getCanonicalIndex());
+  }
+
+  @Test
+  void getCanonicalIndexShouldNumberEveryClassOnce() {
+    final int[] classSizes = new int[Hand.CANONICAL_CLASSES];
+    for (int index = 0; index < Hand.COMBINATIONS; index++) {
+      final Hand hand = Hand.ofIndex(index);
+      final int canonicalIndex = hand.getCanonicalIndex();
+      ++classSizes[canonicalIndex];
+      assertThat(hand.canonical().getIndex())
+        .isEqualTo(Hand.ofCanonicalIndex(canonicalIndex).getIndex());
+    }
+    for (int canonicalIndex = 0; canonicalIndex < Hand.CANONICAL_CLASSES; canonicalIndex++) {
+      // No hand is worth the same under more than the 24 relabellings of the suits
+      assertThat(classSizes[canonicalIndex]).isBetween(1, 24);
+      assertThat(Hand.ofCanonicalIndex(canonicalIndex).getCanonicalIndex())
+        .isEqualTo(canonicalIndex);
+    }
+  }
+
+  @Test
+  void ofCanonicalIndexShouldFailForIndexesOutOfRange() {
+    assertThrows(IllegalArgumentException.class, () -> Hand.ofCanonicalIndex(-1));
+    assertThrows(IllegalArgumentException.class,
+      () -> Hand.ofCanonicalIndex(Hand.CANONICAL_CLASSES));
+  }
 }
@@ -0,0 +1,59 @@
+package co.instil.interview.pokerface.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class OmahaHandTest {
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "AH KH 7D 2C | QH JH TH 3S 3D",
+    "AH KH 7D 2C|QH JH TH 3S 3D",
+    "  AH   KH 7D 2C   |  QH JH   TH 3S 3D"
+  })
+  void parseShouldParseTheInputStringToAnOmahaHand(final String handString) {
+    // when
+    final OmahaHand hand = OmahaHand.parse(handString);
+
+    // then
+    assertThat(hand.getHoleCards()).hasSize(4);
+    assertThat(hand.getBoardCards()).hasSize(5);
+    assertThat(hand.toString()).isEqualTo("AH KH 7D 2C | QH JH TH 3S 3D");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "AH KH 7D 2C | QH JH TH 3S AH",
+    "AH KH 7D 7D | QH JH TH 3S 3D"
+  })
+  void parseShouldFailIfOneOrMoreCardsInTheHandAreIdentical(final String handString) {
+    // when
+    final IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+      () -> OmahaHand.parse(handString));
+
+    // then
+    assertThat(e.getCause()).isNotNull();
+    assertThat(e.getCause().getMessage()).isEqualTo("One or more Cards where found identical");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "AH KH 7D 2C QH JH TH 3S 3D",
+    "AH KH 7D | 2C QH JH TH 3S 3D",
+    "AH KH 7D 2C | QH JH | TH 3S 3D",
+    "AH KH 7D 2C | QH JH TH 3S"
+  })
+  void parseShouldFailIfTheHandDoesNotConsistOfFourHoleAndFiveBoardCards(
+    final String handString
+  ) {
+    // when
+    final IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+      () -> OmahaHand.parse(handString));
+
+    // then
+    assertThat(e.getMessage())
+      .isEqualTo("The input string [" + handString + "] is not a valid Omaha Hand");
+  }
+}
@@ -0,0 +1,48 @@
+package co.instil.interview.pokerface.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class WildHandTest {
+  @ParameterizedTest
+  @CsvSource({
+    "AH KH QH JH TH, 0, AH KH QH JH TH",
+    "JK KH 7D QH 2C, 1, KH QH 7D 2C JK",
+    "jk 2C JK AS 9D, 2, AS 9D 2C JK JK"
+  })
+  void parseShouldKeepTheJokersApartFromTheNaturalCards(
+    final String handString,
+    final int jokers,
+    final String expectedString
+  ) {
+    // when
+    final WildHand hand = WildHand.parse(handString);
+
+    // then
+    assertThat(hand.getJokers()).isEqualTo(jokers);
+    assertThat(hand.getNaturalCards()).hasSize(5 - jokers);
+    assertThat(hand.toString()).isEqualTo(expectedString);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "JK JK JK AS 9D",
+    "JK AS AS 9D 2C",
+    "JK AS 9D 2C",
+    "JK AS 9D 2C 3C 4C",
+    "JX AS 9D 2C 3C"
+  })
+  void parseShouldFailForHandsThatAreNotValidWildHands(final String handString) {
+    // when
+    final IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+      () -> WildHand.parse(handString));
+
+    // then
+    assertThat(e.getMessage())
+      .isEqualTo("The input string [" + handString + "] is not a valid Wild Hand");
+  }
+}